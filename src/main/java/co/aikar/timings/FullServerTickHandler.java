@@ -99,6 +99,7 @@ public void stopTiming() {
         }
         if (TimingHistory.timedTicks % Timings.getHistoryInterval() == 0) {
             TimingsManager.HISTORY.add(new TimingHistory());
+            TimingsManager.checkLocalExport();
             TimingsManager.resetTimings();
         }
     }
@@ -58,6 +58,14 @@ public void init() {
         setTimingsEnabled(this.moduleEnabled && config.isEnabled());
         setHistoryInterval(config.getHistoryInterval());
         setHistoryLength(config.getHistoryLength());
+        TimingsManager.histogramLength = config.useContinuousHistograms() ? Math.max(1, config.getHistogramLength()) : 0;
+        TimingsManager.localExportDirectory = config.useLocalExport() ? SpongeImpl.getGameDir().resolve(config.getLocalExportDirectory()) : null;
+        // Each report only contains the retained history, exporting less often would leave gaps between reports
+        TimingsManager.localExportInterval = Math.min(config.getLocalExportInterval(), this.historyLength);
+        if (config.useLocalExport() && config.getLocalExportInterval() > this.historyLength) {
+            SpongeImpl.getLogger().warn("Timings local export interval " + config.getLocalExportInterval() + " is longer than the history length "
+                    + this.historyLength + ", reports are exported every " + this.historyLength + " ticks instead.");
+        }
 
         SpongeImpl.getLogger().debug("Sponge Timings: " + this.timingsEnabled +
                                     " - Verbose: " + this.verboseEnabled +
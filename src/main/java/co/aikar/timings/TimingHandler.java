@@ -29,6 +29,8 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeImpl;
 
+import javax.annotation.Nullable;
+
 class TimingHandler implements Timing {
 
     private static int idPool = 1;
@@ -40,6 +42,7 @@ class TimingHandler implements Timing {
     final Int2ObjectMap<TimingData> children = new LoadingIntMap<>(TimingData.LOADER);
 
     final TimingData record;
+    @Nullable TimingHistogram histogram;
     private final TimingHandler groupHandler;
 
     private long start = 0;
@@ -76,6 +79,12 @@ void processTick(boolean violated) {
             return;
         }
 
+        if (TimingsManager.histogramLength > 0) {
+            if (this.histogram == null) {
+                this.histogram = new TimingHistogram(TimingsManager.histogramLength);
+            }
+            this.histogram.add(this.record.curTickTotal);
+        }
         this.record.processTick(violated);
         for (TimingData handler : this.children.values()) {
             handler.processTick(violated);
@@ -171,6 +180,7 @@ void reset(boolean full) {
         this.record.reset();
         if (full) {
             this.timed = false;
+            this.histogram = null;
         }
         this.start = 0;
         this.timingDepth = 0;
@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import co.aikar.util.JSONUtil;
+import com.google.gson.JsonArray;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size ring buffer of per tick totals for a single handler, used by the
+ * continuous timings mode to report tick latency percentiles without keeping
+ * any objects per sample.
+ */
+final class TimingHistogram {
+
+    private final int[] samples;
+    private int next;
+    private int size;
+
+    TimingHistogram(int length) {
+        this.samples = new int[Math.max(1, length)];
+    }
+
+    void add(int tickTotal) {
+        this.samples[this.next] = tickTotal;
+        if (++this.next == this.samples.length) {
+            this.next = 0;
+        }
+        if (this.size < this.samples.length) {
+            this.size++;
+        }
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Exports the histogram as {@code [id, samples, p50, p99, max]}, with the
+     * percentiles in nanoseconds.
+     *
+     * @param id The handler id
+     * @return The exported array
+     */
+    JsonArray export(int id) {
+        int[] sorted = Arrays.copyOf(this.samples, this.size);
+        Arrays.sort(sorted);
+        return JSONUtil.arrayOf(
+                id,
+                this.size,
+                percentile(sorted, 0.50D),
+                percentile(sorted, 0.99D),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    private static int percentile(int[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -58,25 +58,36 @@
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.zip.GZIPOutputStream;
 
+import javax.annotation.Nullable;
+
 class TimingsExport extends Thread {
 
     private static final Joiner AUTHOR_LIST_JOINER = Joiner.on(", ");
     private static final Joiner RUNTIME_FLAG_JOINER = Joiner.on(" ");
     private static final Joiner CONFIG_PATH_JOINER = Joiner.on(".");
 
-    private final CommandSource sender;
+    private static final DateTimeFormatter LOCAL_EXPORT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    @Nullable private final CommandSource sender;
     private final JsonObject out;
     private final TimingHistory[] history;
+    @Nullable private final Path localDirectory;
 
-    TimingsExport(CommandSource sender, JsonObject out, TimingHistory[] history) {
-        super("Timings paste thread");
+    TimingsExport(@Nullable CommandSource sender, JsonObject out, TimingHistory[] history, @Nullable Path localDirectory) {
+        super(localDirectory == null ? "Timings paste thread" : "Timings export thread");
         this.sender = sender;
         this.out = out;
         this.history = history;
+        this.localDirectory = localDirectory;
     }
 
     private static String getServerName() {
@@ -89,6 +100,20 @@ private static String getServerName() {
      * @param sender Who to report to
      */
     static void reportTimings(CommandSource sender) {
+        createExport(sender, null).start();
+    }
+
+    /**
+     * Writes a report of the completed history frames to the given directory
+     * as gzipped JSON, without uploading it anywhere.
+     *
+     * @param directory The directory to write the report to
+     */
+    static void exportTimingsLocally(Path directory) {
+        createExport(null, directory).start();
+    }
+
+    private static TimingsExport createExport(@Nullable CommandSource sender, @Nullable Path localDirectory) {
         Platform platform = SpongeImpl.getGame().getPlatform();
         JsonObjectBuilder builder = JSONUtil.objectBuilder()
                 // Get some basic system details about the server
@@ -123,8 +148,11 @@ static void reportTimings(CommandSource sender) {
         Set<BlockType> blockTypeSet = Sets.newHashSet();
         Set<EntityType> entityTypeSet = Sets.newHashSet();
 
+        // Local exports are taken as a history frame completes, so there is
+        // no partial frame to snapshot.
+        boolean snapshot = localDirectory == null;
         int size = HISTORY.size();
-        TimingHistory[] history = new TimingHistory[size + 1];
+        TimingHistory[] history = new TimingHistory[snapshot ? size + 1 : size];
         int i = 0;
         for (TimingHistory timingHistory : HISTORY) {
             blockTypeSet.addAll(timingHistory.blockTypeSet);
@@ -132,11 +160,14 @@ static void reportTimings(CommandSource sender) {
             history[i++] = timingHistory;
         }
 
-        history[i] = new TimingHistory(); // Current snapshot
-        blockTypeSet.addAll(history[i].blockTypeSet);
-        entityTypeSet.addAll(history[i].entityTypeSet);
+        if (snapshot) {
+            history[i] = new TimingHistory(); // Current snapshot
+            blockTypeSet.addAll(history[i].blockTypeSet);
+            entityTypeSet.addAll(history[i].entityTypeSet);
+        }
 
         JsonObjectBuilder handlersBuilder = JSONUtil.objectBuilder();
+        JsonArray histograms = new JsonArray();
         for (TimingIdentifier.TimingGroup group : TimingIdentifier.GROUP_MAP.values()) {
             for (TimingHandler id : group.handlers) {
                 if (!id.timed && !id.isSpecial()) {
@@ -145,8 +176,14 @@ static void reportTimings(CommandSource sender) {
                 handlersBuilder.add(id.id, JSONUtil.arrayOf(
                         group.id,
                         id.name));
+                if (id.histogram != null && id.histogram.size() > 0) {
+                    histograms.add(id.histogram.export(id.id));
+                }
             }
         }
+        if (histograms.size() > 0) {
+            builder.add("histograms", histograms);
+        }
 
         builder.add("idmap", JSONUtil.objectBuilder()
                 .add("groups", JSONUtil.mapArrayToObject(TimingIdentifier.GROUP_MAP.values(), (group) -> {
@@ -182,7 +219,7 @@ static void reportTimings(CommandSource sender) {
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", serializeConfigNode(SpongeImpl.getGlobalConfig().getRootNode())));
 
-        new TimingsExport(sender, builder.build(), history).start();
+        return new TimingsExport(sender, builder.build(), history, localDirectory);
     }
 
     static long getCost() {
@@ -256,10 +293,17 @@ public synchronized void start() {
 
     @Override
     public void run() {
-        this.sender.sendMessage(Text.of(TextColors.GREEN, "Preparing Timings Report..."));
+        if (this.sender != null) {
+            this.sender.sendMessage(Text.of(TextColors.GREEN, "Preparing Timings Report..."));
+        }
 
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
+        if (this.localDirectory != null) {
+            writeLocal(this.localDirectory);
+            return;
+        }
+
         String response = null;
         try {
             String hostname = "localhost";
@@ -314,6 +358,25 @@ public void run() {
         }
     }
 
+    private void writeLocal(Path directory) {
+        Path file = directory.resolve("timings-" + LOCAL_EXPORT_FORMAT.format(LocalDateTime.now()) + ".json.gz");
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(file))) {
+                os.write(JSONUtil.toString(this.out).getBytes(StandardCharsets.UTF_8));
+            }
+            if (this.sender != null) {
+                this.sender.sendMessage(Text.of(TextColors.GREEN, "Timings Report written to " + file));
+            }
+            SpongeImpl.getLogger().debug("Timings Report written to {}", file);
+        } catch (IOException ex) {
+            if (this.sender != null) {
+                this.sender.sendMessage(Text.of(TextColors.RED, "Error writing timings, check your logs for more information"));
+            }
+            SpongeImpl.getLogger().error("Could not write timings to " + file, ex);
+        }
+    }
+
     private String getResponse(HttpURLConnection con) throws IOException {
         InputStream is = null;
         try {
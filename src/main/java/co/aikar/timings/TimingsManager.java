@@ -30,6 +30,7 @@
 import org.spongepowered.api.command.CommandMapping;
 import org.spongepowered.common.SpongeImpl;
 
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -38,6 +39,8 @@
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public final class TimingsManager {
 
     static final Map<TimingIdentifier, TimingHandler> TIMING_MAP = Collections.synchronizedMap(
@@ -61,6 +64,10 @@ public final class TimingsManager {
     static long historyStart = 0;
     static boolean needsFullReset = false;
     static boolean needsRecheckEnabled = false;
+    static int histogramLength = 0;
+    @Nullable static Path localExportDirectory;
+    static int localExportInterval;
+    static long localExportTicks = 0;
 
     private TimingsManager() {
     }
@@ -139,6 +146,21 @@ static void resetTimings() {
         historyStart = System.currentTimeMillis();
     }
 
+    /**
+     * Called when a history frame completes, writing a report to the local
+     * export directory once enough ticks have passed since the last one.
+     */
+    static void checkLocalExport() {
+        if (localExportDirectory == null) {
+            return;
+        }
+        localExportTicks += Timings.getHistoryInterval();
+        if (localExportTicks >= localExportInterval) {
+            localExportTicks = 0;
+            TimingsExport.exportTimingsLocally(localExportDirectory);
+        }
+    }
+
     static TimingHandler getHandler(String group, String name, Timing parent, boolean protect) {
         return TIMING_MAP.get(new TimingIdentifier(group, name, parent, protect));
     }
@@ -56,6 +56,8 @@ public class WorldTimingsHandler {
     public final Timing tracker2;
     public final Timing doTick;
     public final Timing tickEntities;
+    public final Timing entityActivation;
+    public final Timing tileEntityActivation;
 
     // Chunk Load
     public final Timing syncChunkLoadTimer;
@@ -112,6 +114,8 @@ public WorldTimingsHandler(World world) {
         this.tracker2 = SpongeTimingsFactory.ofSafe(name + "tracker stage 2");
         this.doTick = SpongeTimingsFactory.ofSafe(name + "doTick");
         this.tickEntities = SpongeTimingsFactory.ofSafe(name + "tickEntities");
+        this.entityActivation = SpongeTimingsFactory.ofSafe(name + "entityActivation");
+        this.tileEntityActivation = SpongeTimingsFactory.ofSafe(name + "tileEntityActivation");
 
         this.causeTrackerBlockTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockCaptures");
         this.causeTrackerBlockBreakTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockBreakCaptures");
@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import net.minecraft.block.properties.IProperty;
+
+import java.util.Collection;
+
+/**
+ * The layout of the transition table of a block's states. The table holds
+ * one run of allowed values per property, starting at the property's
+ * offset. Every state of a block has the same properties in the same order,
+ * so the layout is shared between them and only the table is per state.
+ */
+public final class BlockStateTransitionLayout {
+
+    private final IProperty<?>[] properties;
+    private final Object[][] values;
+    private final int[] offsets;
+    private final int size;
+
+    public BlockStateTransitionLayout(Collection<IProperty<?>> properties) {
+        this.properties = properties.toArray(new IProperty<?>[0]);
+        this.values = new Object[this.properties.length][];
+        this.offsets = new int[this.properties.length];
+        int offset = 0;
+        for (int i = 0; i < this.properties.length; i++) {
+            this.values[i] = this.properties[i].getAllowedValues().toArray();
+            this.offsets[i] = offset;
+            offset += this.values[i].length;
+        }
+        this.size = offset;
+    }
+
+    /**
+     * Gets the number of entries of a transition table with this layout.
+     *
+     * @return The size of the table
+     */
+    public int size() {
+        return this.size;
+    }
+
+    public int getPropertyCount() {
+        return this.properties.length;
+    }
+
+    public IProperty<?> getProperty(int index) {
+        return this.properties[index];
+    }
+
+    public Object[] getValues(int index) {
+        return this.values[index];
+    }
+
+    public int getOffset(int index) {
+        return this.offsets[index];
+    }
+
+    /**
+     * Gets the index in the transition table of the state with the given
+     * value for the property.
+     *
+     * @param property The property
+     * @param value The value of the property
+     * @return The index in the table, or -1 if the property or value is not
+     *     part of this layout
+     */
+    public int indexOf(IProperty<?> property, Object value) {
+        final IProperty<?>[] properties = this.properties;
+        int index = -1;
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i] == property) {
+                index = i;
+                break;
+            }
+        }
+        if (index == -1) {
+            // Properties are only equal by value, the table allowed this as well
+            for (int i = 0; i < properties.length; i++) {
+                if (properties[i].equals(property)) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index == -1) {
+                return -1;
+            }
+        }
+        final Object[] values = this.values[index];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value || values[i].equals(value)) {
+                return this.offsets[index] + i;
+            }
+        }
+        return -1;
+    }
+
+}
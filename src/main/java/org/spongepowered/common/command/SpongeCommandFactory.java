@@ -92,6 +92,7 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTracker;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
@@ -333,9 +334,20 @@ protected Text getChunksInfo(WorldServer worldserver) {
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
-                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
+                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT,
+                                key("Queued Light Updates: "), value(((IMixinWorldServer) worldserver).getQueuedLightingUpdateCount()), NEWLINE_TEXT,
+                                getTrackerInfo(worldserver)
                         );
                     }
+
+                    protected Text getTrackerInfo(WorldServer worldserver) {
+                        if (!(worldserver.getEntityTracker() instanceof IMixinEntityTracker)) {
+                            return Text.EMPTY;
+                        }
+                        final IMixinEntityTracker tracker = (IMixinEntityTracker) worldserver.getEntityTracker();
+                        return Text.of(key("Tracker Entry Updates (last tick): "), value(tracker.getLastTickEntryUpdates()), NEWLINE_TEXT,
+                                key("Tracker Visibility Updates (last tick): "), value(tracker.getLastTickVisibilityUpdates()), NEWLINE_TEXT);
+                    }
                 })
                 .build();
     }
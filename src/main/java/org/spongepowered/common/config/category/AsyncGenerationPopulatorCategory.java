@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public class AsyncGenerationPopulatorCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', the base terrain of chunks that are likely to be requested soon is generated \n"
+                                        + "ahead of time on worker threads. This only applies to chunks whose base generator and \n"
+                                        + "generation populators are all declared thread safe, populators still run on the main thread.")
+    private boolean enabled = false;
+
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for generating base terrain ahead of time. (Default: 2)")
+    private int numThreads = 2;
+
+    @Setting(value = "max-pending-chunks", comment = "The maximum number of chunks per world that are generated ahead of time \n"
+                                                   + "and not requested yet. (Default: 64)")
+    private int maxPendingChunks = 64;
+
+    @Setting(value = "thread-safe-populators", comment = "The fully qualified class names of generation populators that may be run \n"
+                                                       + "on worker threads. A listed populator must not change any state shared \n"
+                                                       + "between chunks and must not read or change the blocks of the world.")
+    private List<String> threadSafePopulators = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getNumThreads() {
+        return this.numThreads;
+    }
+
+    public int getMaxPendingChunks() {
+        return this.maxPendingChunks;
+    }
+
+    public List<String> getThreadSafePopulators() {
+        return this.threadSafePopulators;
+    }
+}
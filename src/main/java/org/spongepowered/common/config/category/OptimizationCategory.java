@@ -55,6 +55,9 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates asynchronously.")
     private AsyncLightingCategory asyncLightingCategory = new AsyncLightingCategory();
 
+    @Setting(value = "async-generation-populators", comment = "Generates the base terrain of chunks ahead of time on worker threads.")
+    private AsyncGenerationPopulatorCategory asyncGenerationPopulatorCategory = new AsyncGenerationPopulatorCategory();
+
     @Setting(value = "panda-redstone", comment = "If 'true', uses Panda4494's redstone implementation which improves performance. \n"
                                                + "See https://bugs.mojang.com/browse/MC-11193 for more information. \n"
                                                + "Note: This optimization has a few issues which are explained in the bug report.")
@@ -71,6 +74,59 @@ public class OptimizationCategory extends ConfigCategory {
                                                               + "See https://bugs.mojang.com/browse/MC-128547 for more information.\n")
     private boolean enchantmentLeak = true;
 
+    @Setting(value = "compiled-event-dispatchers", comment = "If 'true', a dispatcher class is generated for every event type that has listeners, \n"
+                                                          + "once per number of listeners the event type had. The class calls each listener \n"
+                                                          + "from its own call site instead of going through the shared \n"
+                                                          + "listener loop, which lets the JVM inline listeners of frequently posted events.")
+    private boolean compiledEventDispatchers = false;
+
+    @Setting(value = "parallel-volume-workers", comment = "If 'true', block and biome volume workers split map, merge and reduce operations on large \n"
+                                                       + "buffers that are not bound to a world across the common fork join pool. \n"
+                                                       + "Only enable this if every plugin passing mappers, mergers or reducers to \n"
+                                                       + "buffer workers can handle being called from multiple threads.")
+    private boolean parallelVolumeWorkers = false;
+
+    @Setting(value = "block-state-transition-table", comment = "If 'true', every block state resolves the states it can change to through a flat \n"
+                                                            + "array built at startup, instead of two hash lookups on every property change.")
+    private boolean blockStateTransitionTable = false;
+
+    @Setting(value = "encoded-particle-broadcast", comment = "If 'true', particle packets sent to more than one player are encoded once and the \n"
+                                                          + "encoded buffer is shared between all viewers. This writes the buffer past the \n"
+                                                          + "connection's packet encoder, so disable it if a mod or proxy needs to see the packets.")
+    private boolean encodedParticleBroadcast = false;
+
+    @Setting(value = "spatial-entity-tracker", comment = "If 'true', the entity tracker keeps the players of each world in chunk buckets so \n"
+                                                      + "that tracked entities only check the players near them for visibility, instead of \n"
+                                                      + "every player in the world. The number of visibility updates per tick is shown by \n"
+                                                      + "'/sponge chunks'.")
+    private boolean spatialEntityTracker = false;
+
+    @Setting(value = "container-dirty-slot-tracking", comment = "If 'true', open containers only compare the slots of tile entity inventories that were \n"
+                                                             + "marked dirty since the last sync. Item stacks changed in place without marking \n"
+                                                             + "their inventory dirty are picked up by the next full comparison.")
+    private boolean containerDirtySlotTracking = false;
+
+    @Setting(value = "container-full-verify-interval", comment = "The number of container syncs between full comparisons of every slot when \n"
+                                                              + "'container-dirty-slot-tracking' is enabled.")
+    private int containerFullVerifyInterval = 20;
+
+    @Setting(value = "incremental-creature-counts", comment = "If 'true', the world spawner uses creature counts that are updated as entities are \n"
+                                                            + "added and removed instead of counting the loaded entities of every creature type \n"
+                                                            + "each spawn cycle. Note: Mods overriding which creature type an entity counts as \n"
+                                                            + "are not taken into account. Changing this setting requires a restart.")
+    private boolean incrementalCreatureCounts = false;
+
+    @Setting(value = "coalesce-player-move-events", comment = "If 'true', a single move event is thrown per player and tick for all movement packets \n"
+                                                            + "received during that tick, carrying the first 'from' and the last 'to' transform. \n"
+                                                            + "The movement is already applied when the event is thrown, cancelling it moves the \n"
+                                                            + "player back.")
+    private boolean coalescePlayerMoveEvents = false;
+
+    @Setting(value = "region-ordered-chunk-pregen", comment = "If 'true', chunk pre-generation works through the area one region file at a time, \n"
+                                                            + "starting with the regions closest to the center, instead of spiralling outwards. \n"
+                                                            + "This keeps the region file of the chunks being generated open.")
+    private boolean regionOrderedChunkPreGeneration = false;
+
     public OptimizationCategory() {  
         try {
             // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
@@ -115,6 +171,14 @@ public boolean useAsyncLighting() {
         return this.asyncLightingCategory.isEnabled();
     }
 
+    public AsyncGenerationPopulatorCategory getAsyncGenerationPopulatorCategory() {
+        return this.asyncGenerationPopulatorCategory;
+    }
+
+    public boolean useAsyncGenerationPopulators() {
+        return this.asyncGenerationPopulatorCategory.isEnabled();
+    }
+
     public boolean usePandaRedstone() {
         return this.pandaRedstone;
     }
@@ -122,4 +186,44 @@ public boolean usePandaRedstone() {
     public boolean useEnchantmentHelperFix() {
         return this.enchantmentLeak;
     }
+
+    public boolean useCompiledEventDispatchers() {
+        return this.compiledEventDispatchers;
+    }
+
+    public boolean useParallelVolumeWorkers() {
+        return this.parallelVolumeWorkers;
+    }
+
+    public boolean useBlockStateTransitionTable() {
+        return this.blockStateTransitionTable;
+    }
+
+    public boolean useEncodedParticleBroadcast() {
+        return this.encodedParticleBroadcast;
+    }
+
+    public boolean useSpatialEntityTracker() {
+        return this.spatialEntityTracker;
+    }
+
+    public boolean useContainerDirtySlotTracking() {
+        return this.containerDirtySlotTracking;
+    }
+
+    public int getContainerFullVerifyInterval() {
+        return this.containerFullVerifyInterval;
+    }
+
+    public boolean useIncrementalCreatureCounts() {
+        return this.incrementalCreatureCounts;
+    }
+
+    public boolean useCoalescedPlayerMoveEvents() {
+        return this.coalescePlayerMoveEvents;
+    }
+
+    public boolean useRegionOrderedChunkPreGeneration() {
+        return this.regionOrderedChunkPreGeneration;
+    }
 }
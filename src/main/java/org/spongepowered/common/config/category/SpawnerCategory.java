@@ -46,6 +46,11 @@ public class SpawnerCategory extends ConfigCategory {
     private int tickRateAquatic = 400;
     @Setting(value = "tick-rate-monster", comment = "The monster spawning tick rate. Default: 1")
     private int tickRateMonster = 1;
+    @Setting(value = "per-player-mob-cap", comment = "If 'true', the spawn limits apply to the creatures around each player instead of \n"
+                                                   + "the whole world. Creatures only spawn in chunks near a player that is below the limit, \n"
+                                                   + "so players in crowded areas don't prevent spawning around other players. \n"
+                                                   + "Requires 'optimizations.incremental-creature-counts' to be enabled.")
+    private boolean perPlayerMobCap = false;
 
     public SpawnerCategory() {
         
@@ -82,4 +87,8 @@ public int getAquaticTickRate() {
     public int getMonsterTickRate() {
         return this.tickRateMonster;
     }
+
+    public boolean usePerPlayerMobCap() {
+        return this.perPlayerMobCap;
+    }
 }
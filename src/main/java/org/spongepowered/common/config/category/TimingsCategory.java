@@ -51,6 +51,25 @@ public class TimingsCategory extends ConfigCategory {
     @Setting("history-length")
     private int historyLength = 3600;
 
+    @Setting(value = "local-export", comment = "If enabled, timings reports are periodically written to disk as gzipped JSON \n"
+            + "instead of only being uploaded on demand. Useful on hosts without outbound access.")
+    private boolean localExport = false;
+
+    @Setting(value = "local-export-directory", comment = "The directory, relative to the server root, local timings reports are written to.")
+    private String localExportDirectory = "timings";
+
+    @Setting(value = "local-export-interval", comment = "The minimum number of ticks between local timings reports. \n"
+            + "Reports are written when a history frame completes, so this is rounded up to the history interval. \n"
+            + "Each report only contains the 'history-length' ticks before it, so longer intervals are lowered to it.")
+    private int localExportInterval = 3600;
+
+    @Setting(value = "continuous-histograms", comment = "If enabled, every timed handler keeps a ring buffer of its per tick time, \n"
+            + "and reports include its p50, p99 and max tick time over that window.")
+    private boolean continuousHistograms = false;
+
+    @Setting(value = "histogram-length", comment = "The number of ticks kept by each handler when 'continuous-histograms' is enabled.")
+    private int histogramLength = 6000;
+
     public boolean isVerbose() {
         return this.verbose;
     }
@@ -83,4 +102,24 @@ public void setHistoryLength(int historyLength) {
         this.historyLength = historyLength;
     }
 
+    public boolean useLocalExport() {
+        return this.localExport;
+    }
+
+    public String getLocalExportDirectory() {
+        return this.localExportDirectory;
+    }
+
+    public int getLocalExportInterval() {
+        return this.localExportInterval;
+    }
+
+    public boolean useContinuousHistograms() {
+        return this.continuousHistograms;
+    }
+
+    public int getHistogramLength() {
+        return this.histogramLength;
+    }
+
 }
\ No newline at end of file
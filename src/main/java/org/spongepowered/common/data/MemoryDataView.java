@@ -52,6 +52,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -832,6 +833,32 @@ public SafetyMode getSafetyMode() {
         return this.safety;
     }
 
+    /**
+     * Gets the values directly held by this view, keyed by their name, as
+     * they are stored. Nested views are held as {@link DataView}s and arrays
+     * are not cloned, whatever the safety mode.
+     *
+     * @return The unmodifiable backing map
+     */
+    public Map<String, Object> getInternalValues() {
+        return Collections.unmodifiableMap(this.map);
+    }
+
+    /**
+     * Sets a value that is already in the form it would be stored in,
+     * skipping all of the translation and copying done by
+     * {@link #set(DataQuery, Object)}. Only valid for views that do not
+     * clone their data, with values that are primitives, strings, primitive
+     * arrays or immutable lists of these.
+     *
+     * @param key The key to set
+     * @param value The value to set
+     */
+    public void setInternalValue(String key, Object value) {
+        checkState(this.safety == SafetyMode.NO_DATA_CLONED, "Values can only be set directly on views that do not clone data");
+        this.map.put(checkNotNull(key, "key"), checkNotNull(value, "value"));
+    }
+
     @Override
     public int hashCode() {
         return Objects.hashCode(this.map, this.path);
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.fixer.world;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.datafix.IFixableData;
+import org.spongepowered.common.data.util.DataVersions;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+/**
+ * Converts the legacy block tracking table, written as one compound per
+ * tracked position, into the columnar layout of parallel int arrays.
+ *
+ * <p>This fix is applied to the sponge data compound of a chunk, which is
+ * processed by the sponge data fixer whenever a chunk is read.</p>
+ */
+public class ChunkTrackedBlockPositions implements IFixableData {
+
+    @Override
+    public int getFixVersion() {
+        return DataVersions.World.COLUMNAR_BLOCK_TRACKING_VERSION;
+    }
+
+    @Override
+    public NBTTagCompound fixTagCompound(NBTTagCompound compound) {
+        if (!compound.hasKey(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, NbtDataUtil.TAG_LIST)) {
+            return compound;
+        }
+        final NBTTagList positions = compound.getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, NbtDataUtil.TAG_COMPOUND);
+        final int count = positions.tagCount();
+        final int[] shortPositions = new int[count];
+        final int[] shortIndices = new int[count * 2];
+        final int[] intPositions = new int[count];
+        final int[] intIndices = new int[count * 2];
+        int shortCount = 0;
+        int intCount = 0;
+        for (int i = 0; i < count; i++) {
+            final NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
+            int ownerIndex = -1;
+            int notifierIndex = -1;
+            if (valueNbt.hasKey("owner")) {
+                ownerIndex = valueNbt.getInteger("owner");
+            } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
+                ownerIndex = valueNbt.getInteger("uuid");
+            }
+            if (valueNbt.hasKey("notifier")) {
+                notifierIndex = valueNbt.getInteger("notifier");
+            }
+            if (ownerIndex == -1 && notifierIndex == -1) {
+                continue;
+            }
+            if (valueNbt.hasKey("pos")) {
+                shortPositions[shortCount] = valueNbt.getShort("pos");
+                shortIndices[shortCount * 2] = ownerIndex;
+                shortIndices[shortCount * 2 + 1] = notifierIndex;
+                shortCount++;
+            } else {
+                intPositions[intCount] = valueNbt.getInteger("ipos");
+                intIndices[intCount * 2] = ownerIndex;
+                intIndices[intCount * 2 + 1] = notifierIndex;
+                intCount++;
+            }
+        }
+        compound.removeTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE);
+        compound.setIntArray(NbtDataUtil.SPONGE_TRACKED_SHORT_POSITIONS, trim(shortPositions, shortCount));
+        compound.setIntArray(NbtDataUtil.SPONGE_TRACKED_SHORT_INDICES, trim(shortIndices, shortCount * 2));
+        compound.setIntArray(NbtDataUtil.SPONGE_TRACKED_INT_POSITIONS, trim(intPositions, intCount));
+        compound.setIntArray(NbtDataUtil.SPONGE_TRACKED_INT_INDICES, trim(intIndices, intCount * 2));
+        return compound;
+    }
+
+    private static int[] trim(int[] array, int length) {
+        if (array.length == length) {
+            return array;
+        }
+        final int[] trimmed = new int[length];
+        System.arraycopy(array, 0, trimmed, 0, length);
+        return trimmed;
+    }
+}
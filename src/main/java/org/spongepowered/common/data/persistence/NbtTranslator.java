@@ -29,6 +29,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.spongepowered.api.data.DataQuery.of;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import net.minecraft.nbt.NBTBase;
@@ -49,6 +50,7 @@
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataView;
 import org.spongepowered.common.data.util.NbtDataUtil;
 
 import java.util.List;
@@ -78,6 +80,10 @@ private static void containerToCompound(final DataView container, final NBTTagCo
         // from the instance of checks.
         checkNotNull(container);
         checkNotNull(compound);
+        if (container instanceof MemoryDataView) {
+            memoryViewToCompound((MemoryDataView) container, compound);
+            return;
+        }
         for (Map.Entry<DataQuery, Object> entry : container.getValues(false).entrySet()) {
             Object value = entry.getValue();
             String key = entry.getKey().asString('.');
@@ -93,6 +99,32 @@ private static void containerToCompound(final DataView container, final NBTTagCo
         }
     }
 
+    /**
+     * Writes the values of a {@link MemoryDataView} by walking its backing map,
+     * rather than building a map of queries for every nested view.
+     */
+    private static void memoryViewToCompound(final MemoryDataView view, final NBTTagCompound compound) {
+        // Values read through the view would be copies when all data is cloned
+        final boolean cloneArrays = view.getSafetyMode() == DataView.SafetyMode.ALL_DATA_CLONED;
+        for (Map.Entry<String, Object> entry : view.getInternalValues().entrySet()) {
+            final String key = entry.getKey();
+            final Object value = entry.getValue();
+            if (value instanceof DataView) {
+                final NBTTagCompound inner = new NBTTagCompound();
+                containerToCompound((DataView) value, inner);
+                compound.setTag(key, inner);
+            } else if (value instanceof Boolean) {
+                compound.setTag(key + BOOLEAN_IDENTIFER, new NBTTagByte(((Boolean) value) ? (byte) 1 : 0));
+            } else if (cloneArrays && value instanceof byte[]) {
+                compound.setTag(key, new NBTTagByteArray(((byte[]) value).clone()));
+            } else if (cloneArrays && value instanceof int[]) {
+                compound.setTag(key, new NBTTagIntArray(((int[]) value).clone()));
+            } else {
+                compound.setTag(key, getBaseFromObject(value));
+            }
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static NBTBase getBaseFromObject(Object value) {
         checkNotNull(value);
@@ -261,11 +293,12 @@ private static Object fromTagBase(NBTBase base, byte type) {
                 NBTTagList list = (NBTTagList) base;
                 byte listType = (byte) list.getTagType();
                 int count = list.tagCount();
-                List objectList = Lists.newArrayListWithCapacity(count);
-                for (int i = 0; i < list.tagCount(); i++) {
+                // Immutable, as it would be once set on a view
+                ImmutableList.Builder<Object> objectList = ImmutableList.builder();
+                for (int i = 0; i < count; i++) {
                     objectList.add(fromTagBase(list.get(i), listType));
                 }
-                return objectList;
+                return objectList.build();
             case NbtDataUtil.TAG_COMPOUND:
                 return getViewFromCompound((NBTTagCompound) base);
             case NbtDataUtil.TAG_INT_ARRAY:
@@ -302,8 +335,33 @@ public DataContainer translate(NBTTagCompound obj) throws InvalidDataException {
         return getViewFromCompound(obj);
     }
 
+    /**
+     * Reads a compound straight into the backing map of a view that does not
+     * clone its data, skipping the translator lookups done when setting
+     * values through the view.
+     */
+    private static void addToMemoryView(NBTTagCompound compound, MemoryDataView view) {
+        for (String key : compound.getKeySet()) {
+            final NBTBase base = compound.getTag(key);
+            final byte type = base.getId();
+            checkArgument(!key.isEmpty());
+            checkArgument(type > NbtDataUtil.TAG_END && type <= NbtDataUtil.TAG_INT_ARRAY);
+            if (type == NbtDataUtil.TAG_COMPOUND) {
+                addToMemoryView((NBTTagCompound) base, (MemoryDataView) view.createView(of(key)));
+            } else if (type == NbtDataUtil.TAG_BYTE && key.contains(BOOLEAN_IDENTIFER)) {
+                view.setInternalValue(key.replace(BOOLEAN_IDENTIFER, ""), ((NBTTagByte) base).getByte() != 0);
+            } else {
+                view.setInternalValue(key, fromTagBase(base, type));
+            }
+        }
+    }
+
     @Override
     public DataView addTo(NBTTagCompound compound, DataView container) {
+        if (container instanceof MemoryDataView && container.getSafetyMode() == DataView.SafetyMode.NO_DATA_CLONED) {
+            addToMemoryView(compound, (MemoryDataView) container);
+            return container;
+        }
         for (String key : compound.getKeySet()) {
             NBTBase base = compound.getTag(key);
             byte type = base.getId();
@@ -40,12 +40,13 @@
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.ValueProcessor;
+import org.spongepowered.common.data.util.ClassBoundProcessor;
 import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.Optional;
 
 public abstract class AbstractSingleDataSingleTargetProcessor<Holder, T, V extends BaseValue<T>, M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>>
-        extends AbstractSingleDataProcessor<T, V, M, I> implements ValueProcessor<T, V> {
+        extends AbstractSingleDataProcessor<T, V, M, I> implements ValueProcessor<T, V>, ClassBoundProcessor {
 
     protected final Class<Holder> holderClass;
 
@@ -54,6 +55,11 @@ protected AbstractSingleDataSingleTargetProcessor(Key<V> key, Class<Holder> hold
         this.holderClass = checkNotNull(holderClass);
     }
 
+    @Override
+    public Class<?> getHolderClass() {
+        return this.holderClass;
+    }
+
     protected boolean supports(Holder dataHolder) {
         return true;
     }
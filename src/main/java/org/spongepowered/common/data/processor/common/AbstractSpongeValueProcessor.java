@@ -34,10 +34,11 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.ValueProcessor;
+import org.spongepowered.common.data.util.ClassBoundProcessor;
 
 import java.util.Optional;
 
-public abstract class AbstractSpongeValueProcessor<C, E, V extends BaseValue<E>> implements ValueProcessor<E, V> {
+public abstract class AbstractSpongeValueProcessor<C, E, V extends BaseValue<E>> implements ValueProcessor<E, V>, ClassBoundProcessor {
 
     private final Class<C> containerClass;
     protected final Key<V> key;
@@ -62,6 +63,11 @@ protected AbstractSpongeValueProcessor(Class<C> containerClass, Key<V> key) {
 
     protected abstract ImmutableValue<E> constructImmutableValue(E value);
 
+    @Override
+    public Class<?> getHolderClass() {
+        return this.containerClass;
+    }
+
     protected boolean supports(C container) {
         return true;
     }
@@ -45,14 +45,14 @@
 
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
-    private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    private final ProcessorDispatchTable<Tuple<DataProcessor<M, I>, Timing>> processors;
 
     public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
         for (DataProcessor<M, I> processor : processors) {
             builder.add(new Tuple<>(processor, SpongeTimingsFactory.ofSafe(SpongeImpl.getPlugin(), processor.getClass().getCanonicalName())));
         }
-        this.processors = builder.build();
+        this.processors = new ProcessorDispatchTable<>(builder.build(), Tuple::getFirst);
     }
 
     @Override
@@ -62,21 +62,10 @@ public int getPriority() {
 
     @Override
     public boolean supports(DataHolder dataHolder) {
-        final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
-
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors.getEntries(dataHolder.getClass())) {
             if (tuple.getFirst().supports(dataHolder)) {
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
                 return true;
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
         }
         return false;
     }
@@ -85,7 +74,7 @@ public boolean supports(DataHolder dataHolder) {
     @Override
     public boolean supports(EntityType entityType) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors.getEntries()) {
             try (Timing timing = callingFromMinecraftThread ? tuple.getSecond() : null) {
                 if (timing != null) {
                     timing.startTiming();
@@ -100,13 +89,12 @@ public boolean supports(EntityType entityType) {
 
     @Override
     public Optional<M> from(DataHolder dataHolder) {
-        final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
-
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors.getEntries(dataHolder.getClass())) {
             if (tuple.getFirst().supports(dataHolder)) {
+                final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+                if (callingFromMinecraftThread) {
+                    tuple.getSecond().startTiming();
+                }
                 final Optional<M> optional = tuple.getFirst().from(dataHolder);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -115,23 +103,18 @@ public Optional<M> from(DataHolder dataHolder) {
                     return optional;
                 }
             }
-
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
         }
         return Optional.empty();
     }
 
     @Override
     public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction overlap) {
-        final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
-
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors.getEntries(dataHolder.getClass())) {
             if (tuple.getFirst().supports(dataHolder)) {
+                final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+                if (callingFromMinecraftThread) {
+                    tuple.getSecond().startTiming();
+                }
                 final Optional<M> optional = tuple.getFirst().fill(dataHolder, manipulator, overlap);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -140,10 +123,6 @@ public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction over
                     return optional;
                 }
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
-
         }
         return Optional.empty();
     }
@@ -152,7 +131,7 @@ public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction over
     public Optional<M> fill(DataContainer container, M m) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors.getEntries()) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -169,24 +148,20 @@ public Optional<M> fill(DataContainer container, M m) {
 
     @Override
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
-        final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
-
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors.getEntries(dataHolder.getClass())) {
             if (tuple.getFirst().supports(dataHolder)) {
+                final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+                if (callingFromMinecraftThread) {
+                    tuple.getSecond().startTiming();
+                }
                 final DataTransactionResult result = tuple.getFirst().set(dataHolder, manipulator, function);
+                if (callingFromMinecraftThread) {
+                    tuple.getSecond().stopTiming();
+                }
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
-                    if (callingFromMinecraftThread) {
-                        tuple.getSecond().stopTiming();
-                    }
                     return result;
                 }
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
         }
         return DataTransactionResult.failResult(manipulator.asImmutable().getValues());
     }
@@ -195,7 +170,7 @@ public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunc
     public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutable) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors.getEntries()) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -213,13 +188,12 @@ public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutab
 
     @Override
     public DataTransactionResult remove(DataHolder dataHolder) {
-        final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
-
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors.getEntries(dataHolder.getClass())) {
             if (tuple.getFirst().supports(dataHolder)) {
+                final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+                if (callingFromMinecraftThread) {
+                    tuple.getSecond().startTiming();
+                }
                 final DataTransactionResult result = tuple.getFirst().remove(dataHolder);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -228,23 +202,18 @@ public DataTransactionResult remove(DataHolder dataHolder) {
                     return result;
                 }
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
-
         }
         return DataTransactionResult.failNoData();
     }
 
     @Override
     public Optional<M> createFrom(DataHolder dataHolder) {
-        final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
-
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors.getEntries(dataHolder.getClass())) {
             if (tuple.getFirst().supports(dataHolder)) {
+                final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+                if (callingFromMinecraftThread) {
+                    tuple.getSecond().startTiming();
+                }
                 final Optional<M> optional = tuple.getFirst().createFrom(dataHolder);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -253,9 +222,6 @@ public Optional<M> createFrom(DataHolder dataHolder) {
                     return optional;
                 }
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
         }
         return Optional.empty();
     }
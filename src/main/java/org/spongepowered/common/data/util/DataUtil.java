@@ -59,6 +59,7 @@
 import org.spongepowered.common.data.ValueProcessor;
 import org.spongepowered.common.data.fixer.entity.EntityTrackedUser;
 import org.spongepowered.common.data.fixer.entity.player.PlayerRespawnData;
+import org.spongepowered.common.data.fixer.world.ChunkTrackedBlockPositions;
 import org.spongepowered.common.data.fixer.world.SpongeLevelFixer;
 import org.spongepowered.common.data.nbt.NbtDataType;
 import org.spongepowered.common.data.nbt.data.NbtDataProcessor;
@@ -95,6 +96,7 @@ public final class DataUtil {
 
     static {
         spongeDataFixer.registerFix(FixTypes.LEVEL, new SpongeLevelFixer());
+        spongeDataFixer.registerFix(FixTypes.CHUNK, new ChunkTrackedBlockPositions());
         spongeDataFixer.registerFix(FixTypes.ENTITY, new EntityTrackedUser());
         spongeDataFixer.registerFix(FixTypes.PLAYER, new PlayerRespawnData());
     }
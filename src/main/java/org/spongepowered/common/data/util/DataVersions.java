@@ -78,6 +78,7 @@ private PlayerData() {
     public static final class World {
 
         public static final int WORLD_UUID_1_9_VERSION = 0;
+        public static final int COLUMNAR_BLOCK_TRACKING_VERSION = 1;
 
         private World() {
         }
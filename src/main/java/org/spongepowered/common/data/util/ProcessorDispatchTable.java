@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Resolves, per concrete holder class, which processors of a delegate can
+ * possibly support a holder. Processors that are a {@link ClassBoundProcessor}
+ * for an unrelated class are left out, all other processors are kept in their
+ * original order so the priority of the processors is retained. The state
+ * dependent {@code supports} checks are still done by the delegates.
+ *
+ * <p>A table belongs to a single delegate, the delegates are recreated by the
+ * {@link org.spongepowered.common.data.SpongeManipulatorRegistry} whenever the
+ * registered processors change, which also discards the table.</p>
+ *
+ * @param <T> The type of the entries, holding a processor
+ */
+public final class ProcessorDispatchTable<T> {
+
+    private final ImmutableList<T> entries;
+    private final Function<T, ?> processorFunction;
+    private final Map<Class<?>, ImmutableList<T>> entriesByHolderClass = new ConcurrentHashMap<>();
+
+    public ProcessorDispatchTable(ImmutableList<T> entries, Function<T, ?> processorFunction) {
+        this.entries = entries;
+        this.processorFunction = processorFunction;
+    }
+
+    /**
+     * Gets all the entries of this table.
+     *
+     * @return The entries
+     */
+    public ImmutableList<T> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * Gets the entries whose processors may support holders of the given
+     * class.
+     *
+     * @param holderClass The concrete holder class
+     * @return The candidate entries, in priority order
+     */
+    public ImmutableList<T> getEntries(Class<?> holderClass) {
+        ImmutableList<T> candidates = this.entriesByHolderClass.get(holderClass);
+        if (candidates == null) {
+            final ImmutableList.Builder<T> builder = ImmutableList.builder();
+            for (T entry : this.entries) {
+                final Object processor = this.processorFunction.apply(entry);
+                if (!(processor instanceof ClassBoundProcessor)
+                        || ((ClassBoundProcessor) processor).getHolderClass().isAssignableFrom(holderClass)) {
+                    builder.add(entry);
+                }
+            }
+            candidates = builder.build();
+            this.entriesByHolderClass.put(holderClass, candidates);
+        }
+        return candidates;
+    }
+
+}
@@ -28,8 +28,11 @@
 import com.flowpowered.math.vector.Vector3f;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityFireworkRocket;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.network.Packet;
@@ -55,10 +58,15 @@
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.util.Color;
 import org.spongepowered.api.util.Direction;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.data.processor.common.FireworkUtils;
 import org.spongepowered.common.data.type.SpongeNotePitch;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
 import org.spongepowered.common.item.inventory.SpongeItemStackSnapshot;
+import org.spongepowered.common.network.PacketUtil;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -90,6 +98,67 @@ public static List<Packet<?>> toPackets(SpongeParticleEffect effect, Vector3d po
         return packets;
     }
 
+    /**
+     * Sends the particle effect to all the given players that are within the
+     * radius of the position.
+     *
+     * <p>With more than one viewer, and encoded broadcasts enabled, every
+     * packet is only encoded once and the same buffer is written to all of
+     * the viewers.</p>
+     *
+     * @param effect The particle effect
+     * @param position The position
+     * @param radius The radius
+     * @param players The players to consider
+     */
+    public static void sendToNearbyPlayers(SpongeParticleEffect effect, Vector3d position, int radius, List<? extends EntityPlayer> players) {
+        final double x = position.getX();
+        final double y = position.getY();
+        final double z = position.getZ();
+        final double radiusSquared = (double) radius * (double) radius;
+        final List<EntityPlayerMP> viewers = new ArrayList<>();
+        for (EntityPlayer player : players) {
+            if (!(player instanceof EntityPlayerMP) || SpongeImplHooks.isFakePlayer(player) || ((EntityPlayerMP) player).connection == null) {
+                continue;
+            }
+            final double dx = x - player.posX;
+            final double dy = y - player.posY;
+            final double dz = z - player.posZ;
+            if (dx * dx + dy * dy + dz * dz < radiusSquared) {
+                viewers.add((EntityPlayerMP) player);
+            }
+        }
+        if (viewers.isEmpty()) {
+            return;
+        }
+
+        final List<Packet<?>> packets = toPackets(effect, position);
+        final boolean encodeOnce = viewers.size() > 1
+                && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useEncodedParticleBroadcast();
+        for (Packet<?> packet : packets) {
+            if (encodeOnce) {
+                final ByteBuf encoded;
+                try {
+                    encoded = PacketUtil.encodePlayPacket(packet);
+                } catch (IOException e) {
+                    SpongeImpl.getLogger().error("Could not encode particle packet " + packet.getClass().getName(), e);
+                    continue;
+                }
+                try {
+                    for (EntityPlayerMP viewer : viewers) {
+                        ((IMixinNetworkManager) viewer.connection.netManager).sendEncodedPacket(encoded.retainedDuplicate());
+                    }
+                } finally {
+                    encoded.release();
+                }
+            } else {
+                for (EntityPlayerMP viewer : viewers) {
+                    viewer.connection.sendPacket(packet);
+                }
+            }
+        }
+    }
+
     @SuppressWarnings("deprecation")
     private static int getBlockState(SpongeParticleEffect effect, Optional<BlockState> defaultBlockState) {
         Optional<BlockState> blockState = effect.getOption(ParticleOptions.BLOCK_STATE);
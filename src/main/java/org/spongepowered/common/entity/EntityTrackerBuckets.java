@@ -0,0 +1,129 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A per-world spatial hash of the players or tracker entries of a world,
+ * bucketed by the chunk they are in. Rebuilt during every entity tracker
+ * tick so that each tracker entry only has to look at the players in the
+ * chunks covered by its tracking range instead of every player in the world,
+ * and each moved player only at the entries around it.
+ *
+ * @param <T> The type of the bucketed values
+ */
+public final class EntityTrackerBuckets<T> {
+
+    private final Long2ObjectMap<List<T>> buckets = new Long2ObjectOpenHashMap<>();
+    private final ArrayDeque<List<T>> pool = new ArrayDeque<>();
+    private boolean active;
+
+    /**
+     * Clears the buckets and marks them as active until the next call to
+     * {@link #clear()}.
+     */
+    public void start() {
+        this.clear();
+        this.active = true;
+    }
+
+    public void add(double x, double z, T value) {
+        final long key = ChunkPos.asLong(MathHelper.floor(x) >> 4, MathHelper.floor(z) >> 4);
+        List<T> bucket = this.buckets.get(key);
+        if (bucket == null) {
+            bucket = this.pool.isEmpty() ? new ArrayList<>(4) : this.pool.poll();
+            this.buckets.put(key, bucket);
+        }
+        bucket.add(value);
+    }
+
+    public void clear() {
+        for (List<T> bucket : this.buckets.values()) {
+            bucket.clear();
+            this.pool.add(bucket);
+        }
+        this.buckets.clear();
+        this.active = false;
+    }
+
+    /**
+     * Gets whether the buckets reflect the tick currently
+     * being processed by the entity tracker.
+     *
+     * @return True if the buckets may be queried
+     */
+    public boolean isActive() {
+        return this.active;
+    }
+
+    /**
+     * Passes every value in a chunk that intersects the square of the given
+     * range around the given position to the consumer. Values outside the
+     * square may still be passed, the caller is expected to perform the exact
+     * range check.
+     *
+     * @param x The x position of the center
+     * @param z The z position of the center
+     * @param range The range in blocks
+     * @param consumer The consumer of the candidate values
+     */
+    public void forEachCandidate(double x, double z, int range, Consumer<? super T> consumer) {
+        final int minChunkX = MathHelper.floor(x - range) >> 4;
+        final int maxChunkX = MathHelper.floor(x + range) >> 4;
+        final int minChunkZ = MathHelper.floor(z - range) >> 4;
+        final int maxChunkZ = MathHelper.floor(z + range) >> 4;
+        final long area = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (area > this.buckets.size()) {
+            // Large ranges (such as humans) cover more chunks than there are occupied buckets
+            for (Long2ObjectMap.Entry<List<T>> entry : this.buckets.long2ObjectEntrySet()) {
+                final long key = entry.getLongKey();
+                final int chunkX = (int) key;
+                final int chunkZ = (int) (key >> 32);
+                if (chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ) {
+                    entry.getValue().forEach(consumer);
+                }
+            }
+            return;
+        }
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final List<T> bucket = this.buckets.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (bucket != null) {
+                    bucket.forEach(consumer);
+                }
+            }
+        }
+    }
+
+}
@@ -24,32 +24,48 @@
  */
 package org.spongepowered.common.entity;
 
-public class PlayerTracker {
+/**
+ * Owner and notifier indices tracked for a block position.
+ *
+ * <p>Chunks store trackers packed into a single {@code long}, with the owner
+ * index in the high 32 bits and the notifier index in the low 32 bits, so that
+ * tracked positions can be kept in primitive maps. An index of {@code -1}
+ * means nothing is tracked for that slot, which makes {@link #NONE} the packed
+ * value of an empty tracker.</p>
+ */
+public final class PlayerTracker {
+
+    public static final long NONE = pack(-1, -1);
 
     public enum Type {
         OWNER,
         NOTIFIER
     }
 
-    public int ownerIndex;
-    public int notifierIndex;
+    private PlayerTracker() {
+    }
+
+    public static long pack(int ownerIndex, int notifierIndex) {
+        return ((long) ownerIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    public static long pack(int index, Type type) {
+        return type == Type.OWNER ? pack(index, -1) : pack(-1, index);
+    }
+
+    public static int getOwnerIndex(long packed) {
+        return (int) (packed >> 32);
+    }
 
-    public PlayerTracker() {
-        this.ownerIndex = -1;
-        this.notifierIndex = -1;
+    public static int getNotifierIndex(long packed) {
+        return (int) packed;
     }
 
-    public PlayerTracker(int index, Type type) {
-        if (type == Type.OWNER) {
-            this.ownerIndex = index;
-            this.notifierIndex = -1;
-        } else {
-            this.notifierIndex = index;
-            this.ownerIndex = -1;
-        }
+    public static long withOwner(long packed, int ownerIndex) {
+        return pack(ownerIndex, getNotifierIndex(packed));
     }
 
-    public void setNotifier(int notifierIndex) {
-        this.notifierIndex = notifierIndex;
+    public static long withNotifier(long packed, int notifierIndex) {
+        return pack(getOwnerIndex(packed), notifierIndex);
     }
 }
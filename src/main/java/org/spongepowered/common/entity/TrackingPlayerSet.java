@@ -0,0 +1,145 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import net.minecraft.entity.EntityTrackerEntry;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTracker;
+
+import java.util.HashSet;
+import java.util.Iterator;
+
+import javax.annotation.Nullable;
+
+/**
+ * The players tracking a tracker entry. Every change is mirrored to the
+ * entity tracker, which keeps the entries each player tracks so players
+ * that moved only have to be checked against those entries and the entries
+ * around them.
+ */
+public final class TrackingPlayerSet extends HashSet<EntityPlayerMP> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final EntityTrackerEntry entry;
+    // Resolved on the first change, the tracked entity is not set yet when the set is created
+    @Nullable private IMixinEntityTracker tracker;
+    private boolean detached;
+
+    public TrackingPlayerSet(EntityTrackerEntry entry) {
+        this.entry = entry;
+    }
+
+    @Nullable
+    private IMixinEntityTracker getTracker() {
+        if (this.detached) {
+            return null;
+        }
+        if (this.tracker == null) {
+            this.tracker = (IMixinEntityTracker) ((WorldServer) this.entry.getTrackedEntity().world).getEntityTracker();
+        }
+        return this.tracker;
+    }
+
+    /**
+     * Stops mirroring changes, after removing the entry from every player
+     * that still tracks it. Called once the entry was removed from the
+     * entity tracker.
+     */
+    public void detach() {
+        final IMixinEntityTracker tracker = this.getTracker();
+        if (tracker != null) {
+            for (EntityPlayerMP player : this) {
+                tracker.removeTrackedEntry(player, this.entry);
+            }
+        }
+        this.detached = true;
+    }
+
+    @Override
+    public boolean add(EntityPlayerMP player) {
+        if (!super.add(player)) {
+            return false;
+        }
+        final IMixinEntityTracker tracker = this.getTracker();
+        if (tracker != null) {
+            tracker.addTrackedEntry(player, this.entry);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!super.remove(o)) {
+            return false;
+        }
+        final IMixinEntityTracker tracker = this.getTracker();
+        if (tracker != null) {
+            tracker.removeTrackedEntry((EntityPlayerMP) o, this.entry);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        final IMixinEntityTracker tracker = this.getTracker();
+        if (tracker != null) {
+            for (EntityPlayerMP player : this) {
+                tracker.removeTrackedEntry(player, this.entry);
+            }
+        }
+        super.clear();
+    }
+
+    @Override
+    public Iterator<EntityPlayerMP> iterator() {
+        final Iterator<EntityPlayerMP> iterator = super.iterator();
+        return new Iterator<EntityPlayerMP>() {
+
+            @Nullable private EntityPlayerMP last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public EntityPlayerMP next() {
+                return this.last = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                final IMixinEntityTracker tracker = TrackingPlayerSet.this.getTracker();
+                if (tracker != null) {
+                    tracker.removeTrackedEntry(this.last, TrackingPlayerSet.this.entry);
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates {@link CompiledEventDispatcher}s for baked listener lists.
+ *
+ * <p>The generated class only references API types, so a single class loader
+ * can define dispatchers for listeners of every plugin. A class is generated
+ * once per event type and number of listeners, rebakes after listeners are
+ * registered or unregistered reuse it with the new listeners. Classes are
+ * not shared between event types, so the call sites of a class only ever
+ * see the listeners of one event type.</p>
+ */
+final class CompiledEventDispatcherFactory {
+
+    private static final String BASE_DISPATCHER = Type.getInternalName(CompiledEventDispatcher.class);
+    private static final String LISTENER_NAME = Type.getInternalName(EventListener.class);
+    private static final String LISTENER_DESCRIPTOR = Type.getDescriptor(EventListener.class);
+    private static final String HANDLE_METHOD_DESCRIPTOR = '(' + Type.getDescriptor(Event.class) + ")V";
+    private static final String DISPATCH_METHOD_DESCRIPTOR = "(I" + Type.getDescriptor(Event.class) + ")V";
+    private static final String CONSTRUCTOR_DESCRIPTOR = "([" + LISTENER_DESCRIPTOR + ")V";
+
+    private final String targetPackage;
+    private final DefineableClassLoader classLoader;
+    // The generated classes are reused by every bake of an event type with the same number
+    // of listeners instead of defining a new class for every bake
+    private final Map<EventType<?>, Int2ObjectMap<Constructor<? extends CompiledEventDispatcher>>> constructors = new HashMap<>();
+    private int id;
+
+    CompiledEventDispatcherFactory(String targetPackage, DefineableClassLoader classLoader) {
+        this.targetPackage = targetPackage + '.';
+        this.classLoader = classLoader;
+    }
+
+    CompiledEventDispatcher create(EventType<?> eventType, List<RegisteredListener<?>> listeners) throws Exception {
+        final EventListener<?>[] targets = new EventListener<?>[listeners.size()];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = listeners.get(i).getListener();
+        }
+        return getConstructor(eventType, targets.length).newInstance((Object) targets);
+    }
+
+    private synchronized Constructor<? extends CompiledEventDispatcher> getConstructor(EventType<?> eventType, int listenerCount)
+            throws Exception {
+        final Int2ObjectMap<Constructor<? extends CompiledEventDispatcher>> constructors =
+                this.constructors.computeIfAbsent(eventType, key -> new Int2ObjectOpenHashMap<>());
+        Constructor<? extends CompiledEventDispatcher> constructor = constructors.get(listenerCount);
+        if (constructor == null) {
+            final String name = this.targetPackage + "CompiledEventDispatcher_" + eventType.getType().getSimpleName() + '_' + this.id++;
+            final Class<? extends CompiledEventDispatcher> dispatcherClass = this.classLoader.defineClass(name, generateClass(name, listenerCount));
+            constructor = dispatcherClass.getConstructor(EventListener[].class);
+            constructors.put(listenerCount, constructor);
+        }
+        return constructor;
+    }
+
+    private static byte[] generateClass(String name, int listenerCount) {
+        name = name.replace('.', '/');
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, BASE_DISPATCHER, null);
+        for (int i = 0; i < listenerCount; i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "listener" + i, LISTENER_DESCRIPTOR, null, null).visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, BASE_DISPATCHER, "<init>", "()V", false);
+            for (int i = 0; i < listenerCount; i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+                mv.visitFieldInsn(PUTFIELD, name, "listener" + i, LISTENER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            // One call site per listener, selected through a table switch on the index
+            mv = cw.visitMethod(ACC_PUBLIC, "handle", DISPATCH_METHOD_DESCRIPTOR, null, new String[] { "java/lang/Exception" });
+            mv.visitCode();
+            final Label end = new Label();
+            final Label[] cases = new Label[listenerCount];
+            for (int i = 0; i < listenerCount; i++) {
+                cases[i] = new Label();
+            }
+            mv.visitVarInsn(ILOAD, 1);
+            mv.visitTableSwitchInsn(0, listenerCount - 1, end, cases);
+            for (int i = 0; i < listenerCount; i++) {
+                mv.visitLabel(cases[i]);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, "listener" + i, LISTENER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitMethodInsn(INVOKEINTERFACE, LISTENER_NAME, "handle", HANDLE_METHOD_DESCRIPTOR, true);
+                mv.visitInsn(RETURN);
+            }
+            mv.visitLabel(end);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+}
@@ -38,6 +38,8 @@
 import java.util.EnumMap;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
     private final PluginContainer plugin;
@@ -81,6 +83,10 @@ public Timing getTimingsHandler() {
         return this.listenerTimer;
     }
 
+    EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -104,11 +110,17 @@ public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        @Nullable private final CompiledEventDispatcher dispatcher;
 
         private static final Order[] ORDERS = Order.values();
 
         Cache(List<RegisteredListener<?>> listeners) {
+            this(listeners, null);
+        }
+
+        Cache(List<RegisteredListener<?>> listeners, @Nullable CompiledEventDispatcher dispatcher) {
             this.listeners = listeners;
+            this.dispatcher = dispatcher;
 
             this.listenersByOrder = Maps.newEnumMap(Order.class);
             for (Order order : ORDERS) {
@@ -127,6 +139,17 @@ public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             return this.listenersByOrder.get(checkNotNull(order, "order"));
         }
 
+        /**
+         * Gets the dispatcher that was generated for {@link #getListeners()},
+         * if compiled event dispatchers are enabled.
+         *
+         * @return The dispatcher, or null
+         */
+        @Nullable
+        public CompiledEventDispatcher getDispatcher() {
+            return this.dispatcher;
+        }
+
     }
 
 }
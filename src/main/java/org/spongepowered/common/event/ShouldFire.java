@@ -69,4 +69,6 @@ public class ShouldFire {
     public static boolean CHANGE_INVENTORY_EVENT_TRANSFER_POST = false;
 
     public static boolean TICK_BLOCK_EVENT = false;
+
+    public static boolean MOVE_ENTITY_EVENT = false;
 }
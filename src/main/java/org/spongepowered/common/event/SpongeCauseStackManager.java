@@ -40,9 +40,11 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.util.ThreadUtil;
 
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -54,20 +56,33 @@ public class SpongeCauseStackManager implements CauseStackManager {
 
     public static final boolean DEBUG_CAUSE_FRAMES = Boolean.valueOf(System.getProperty("sponge.debugcauseframes", "false"));
 
-    private final Deque<Object> cause = Queues.newArrayDeque();
+    // The cause stack is an immutable linked list so that the head at any
+    // depth, and the cause materialized for it, stays valid after the
+    // objects above it are popped off.
+    @Nullable private CauseNode cause;
     private final Deque<CauseStackFrameImpl> frames = Queues.newArrayDeque();
     private Map<EventContextKey<?>, Object> ctx = Maps.newHashMap();
 
     private int min_depth = 0;
-    private Cause cached_cause;
-    private EventContext cached_ctx;
+    @Nullable private EventContext cached_ctx;
+    @Nullable private Cause cached_empty_cause;
+    @Nullable private Thread permitted_thread;
 
     @Inject
     private SpongeCauseStackManager() { }
 
     private void enforceMainThread() {
+        final Thread thread = Thread.currentThread();
+        if (thread == this.permitted_thread) {
+            return;
+        }
         // On clients, this may not be available immediately, we can't bomb out that early.
-        if (Sponge.isServerAvailable() && !isPermittedThread()) {
+        if (!Sponge.isServerAvailable()) {
+            return;
+        }
+        if (Sponge.getServer().isMainThread()) {
+            this.permitted_thread = thread;
+        } else if (!thread.getName().equals("Server Shutdown Thread")) {
             throw new IllegalStateException(String.format(
                     "CauseStackManager called from off main thread (current='%s', expected='%s')!",
                     ThreadUtil.getDescription(Thread.currentThread()),
@@ -76,21 +91,25 @@ private void enforceMainThread() {
         }
     }
 
-    private static boolean isPermittedThread() {
-        return Sponge.getServer().isMainThread() || Thread.currentThread().getName().equals("Server Shutdown Thread");
+    private int causeSize() {
+        return this.cause == null ? 0 : this.cause.depth;
     }
 
     @Override
     public Cause getCurrentCause() {
         enforceMainThread();
-        if (this.cached_cause == null || this.cached_ctx == null) {
-            if (this.cause.isEmpty()) {
-                this.cached_cause = Cause.of(getCurrentContext(), SpongeImpl.getGame());
-            } else {
-                this.cached_cause = Cause.of(getCurrentContext(), this.cause);
+        final EventContext context = getCurrentContext();
+        final CauseNode head = this.cause;
+        if (head == null) {
+            if (this.cached_empty_cause == null || this.cached_empty_cause.getContext() != context) {
+                this.cached_empty_cause = Cause.of(context, SpongeImpl.getGame());
             }
+            return this.cached_empty_cause;
+        }
+        if (head.cached_cause == null || head.cached_cause.getContext() != context) {
+            head.cached_cause = Cause.of(context, head.toList());
         }
-        return this.cached_cause;
+        return head.cached_cause;
     }
 
     @Override
@@ -106,20 +125,21 @@ public EventContext getCurrentContext() {
     public CauseStackManager pushCause(Object obj) {
         enforceMainThread();
         checkNotNull(obj, "obj");
-        this.cached_cause = null;
-        this.cause.push(obj);
+        this.cause = new CauseNode(obj, this.cause);
         return this;
     }
 
     @Override
     public Object popCause() {
         enforceMainThread();
-        if (this.cause.size() <= this.min_depth) {
+        final int size = causeSize();
+        if (size <= this.min_depth) {
             throw new IllegalStateException("Cause stack corruption, tried to pop more objects off than were pushed since last frame (Size was "
-                    + this.cause.size() + " but mid depth is " + this.min_depth + ")");
+                    + size + " but mid depth is " + this.min_depth + ")");
         }
-        this.cached_cause = null;
-        return this.cause.pop();
+        final CauseNode head = this.cause;
+        this.cause = head.next;
+        return head.value;
     }
 
     @Override
@@ -133,15 +153,16 @@ public void popCauses(int n) {
     @Override
     public Object peekCause() {
         enforceMainThread();
-        return this.cause.peek();
+        return this.cause == null ? null : this.cause.value;
     }
 
     @Override
     public StackFrame pushCauseFrame() {
         enforceMainThread();
         CauseStackFrameImpl frame = new CauseStackFrameImpl(this.min_depth);
+        frame.old_ctx = this.cached_ctx;
         this.frames.push(frame);
-        this.min_depth = this.cause.size();
+        this.min_depth = causeSize();
         if (DEBUG_CAUSE_FRAMES) {
             // Attach an exception to the frame so that if there is any frame
             // corruption we can print out the stack trace of when the frames
@@ -228,14 +249,13 @@ public void popCauseFrame(StackFrame oldFrame) {
             ctx_invalid = true;
         }
         if (ctx_invalid) {
-            this.cached_ctx = null;
+            // The context is now back to what it was when the frame was pushed
+            this.cached_ctx = frame.old_ctx;
         }
-        // If there were any objects left on the stack then we pop them off
-        while (this.cause.size() > this.min_depth) {
-            this.cause.pop();
-
-            // and clear the cached causes
-            this.cached_cause = null;
+        // If there were any objects left on the stack then we pop them off,
+        // the remaining head keeps the cause that was built for it
+        while (causeSize() > this.min_depth) {
+            this.cause = this.cause.next;
         }
         this.min_depth = frame.old_min_depth;
     }
@@ -275,20 +295,47 @@ public <T> Optional<T> removeContext(EventContextKey<T> key) {
         Object existing = this.ctx.remove(key);
         if (existing != null && !this.frames.isEmpty()) {
             CauseStackFrameImpl frame = this.frames.peek();
-            if (!frame.isNew(key)) {
+            // Only the value from before the frame was pushed is restored
+            if (!frame.isNew(key) && !frame.isStored(key)) {
                 frame.store(key, existing);
             }
         }
         return Optional.ofNullable((T) existing);
     }
 
-    // TODO could pool these for more fasts
+    private static final class CauseNode {
+
+        final Object value;
+        @Nullable final CauseNode next;
+        final int depth;
+        @Nullable Cause cached_cause;
+
+        CauseNode(Object value, @Nullable CauseNode next) {
+            this.value = value;
+            this.next = next;
+            this.depth = next == null ? 1 : next.depth + 1;
+        }
+
+        List<Object> toList() {
+            final List<Object> list = new ArrayList<>(this.depth);
+            for (CauseNode node = this; node != null; node = node.next) {
+                list.add(node.value);
+            }
+            return list;
+        }
+
+    }
+
+    // Frames are not pooled, callers may keep a reference to a frame after
+    // popping it. A reused frame would silently turn a second pop of that
+    // reference into a pop of whichever frame took its place.
     public static class CauseStackFrameImpl implements StackFrame {
 
         // lazy loaded
         @Nullable private Map<EventContextKey<?>, Object> stored_ctx_values;
         @Nullable private Set<EventContextKey<?>> new_ctx_values;
         public int old_min_depth;
+        @Nullable EventContext old_ctx;
 
         public Exception stack_debug = null;
 
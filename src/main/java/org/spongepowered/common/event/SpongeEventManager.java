@@ -95,6 +95,8 @@ public class SpongeEventManager implements EventManager {
 
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
+    @Nullable private CompiledEventDispatcherFactory dispatcherFactory;
+
     /**
      * A cache of all the handlers for an event type for quick event posting.
      * <p>The cache is currently entirely invalidated if handlers are added or
@@ -158,7 +160,26 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType)
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        return new RegisteredListener.Cache(handlers, this.createDispatcher(eventType, handlers));
+    }
+
+    @Nullable
+    private CompiledEventDispatcher createDispatcher(EventType<?> eventType, List<RegisteredListener<?>> handlers) {
+        if (handlers.isEmpty() || !SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useCompiledEventDispatchers()) {
+            return null;
+        }
+        try {
+            synchronized (this.lock) {
+                if (this.dispatcherFactory == null) {
+                    this.dispatcherFactory = new CompiledEventDispatcherFactory("org.spongepowered.common.event.dispatcher",
+                            new DefineableClassLoader(SpongeEventManager.class.getClassLoader()));
+                }
+            }
+            return this.dispatcherFactory.create(eventType, handlers);
+        } catch (Exception e) {
+            this.logger.error("Failed to generate event dispatcher for {}, falling back to regular dispatching", eventType, e);
+            return null;
+        }
     }
 
     @Nullable
@@ -388,28 +409,44 @@ protected RegisteredListener.Cache getHandlerCache(Event event) {
         return this.handlersCache.get(eventType);
     }
 
-    @SuppressWarnings("unchecked")
     protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
+        return this.post(event, handlers, null);
+    }
+
+    protected boolean post(Event event, RegisteredListener.Cache cache) {
+        return this.post(event, cache.getListeners(), cache.getDispatcher());
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean post(Event event, List<RegisteredListener<?>> handlers, @Nullable CompiledEventDispatcher dispatcher) {
+        final AbstractEvent abstractEvent = event instanceof AbstractEvent ? (AbstractEvent) event : null;
+        final int size = handlers.size();
         if (!Sponge.getServer().isMainThread()) {
             // If this event is being posted asynchronously then we don't want
             // to do any timing or cause stack changes
-            for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+            for (int i = 0; i < size; i++) {
+                @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers.get(i);
                 try {
-                    if (event instanceof AbstractEvent) {
-                        ((AbstractEvent) event).currentOrder = handler.getOrder();
+                    if (abstractEvent != null) {
+                        abstractEvent.currentOrder = handler.getOrder();
+                    }
+                    if (dispatcher != null) {
+                        dispatcher.handle(i, event);
+                    } else {
+                        handler.handle(event);
                     }
-                    handler.handle(event);
                 } catch (Throwable e) {
                     SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
                 }
             }
-            if (event instanceof AbstractEvent) {
-                ((AbstractEvent) event).currentOrder = null;
+            if (abstractEvent != null) {
+                abstractEvent.currentOrder = null;
             }
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers.get(i);
             try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
                  final PhaseContext<?> context = PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext()
                             .source(handler.getPlugin());
@@ -417,10 +454,14 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
                 frame.pushCause(handler.getPlugin());
                 context.buildAndSwitch();
                 timings.startTimingIfSync();
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = handler.getOrder();
+                if (abstractEvent != null) {
+                    abstractEvent.currentOrder = handler.getOrder();
+                }
+                if (dispatcher != null) {
+                    dispatcher.handle(i, event);
+                } else {
+                    handler.handle(event);
                 }
-                handler.handle(event);
             } catch (Throwable e) {
                 // TODO - add some better handling, especially since we have the stakc frame and phase context to boot
                 final PrettyPrinter printer = new PrettyPrinter(60).add("Error with event listener handling").centre().hr();
@@ -428,8 +469,8 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
             }
         }
-        if (event instanceof AbstractEvent) {
-            ((AbstractEvent) event).currentOrder = null;
+        if (abstractEvent != null) {
+            abstractEvent.currentOrder = null;
         }
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
@@ -452,7 +493,7 @@ public boolean post(Event event) {
     }
 
     public boolean post(Event event, boolean allowClientThread) {
-        return post(event, getHandlerCache(event).getListeners());
+        return post(event, getHandlerCache(event));
 
 
     }
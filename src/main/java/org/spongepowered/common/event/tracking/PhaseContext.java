@@ -54,6 +54,7 @@
 import org.spongepowered.common.event.tracking.context.GeneralizedContext;
 import org.spongepowered.common.event.tracking.context.ItemDropData;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
 import java.util.Collections;
 import java.util.List;
@@ -103,6 +104,8 @@ public static PhaseContext<?> empty() {
     private boolean processImmediately;
 
     @Nullable private Object source;
+    @Nullable PhaseContextPool<?> pool;
+    @Nullable private PhaseData pooledData;
 
     public P source(Object owner) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
@@ -432,6 +435,69 @@ private boolean isEmpty() {
     @Override
     public void close() { // Should never throw an exception
         PhaseTracker.getInstance().completePhase(this.state);
+        if (this.pool != null) {
+            this.pool.release(this);
+        }
+    }
+
+    /**
+     * Gets the {@link PhaseData} to push for this context. Pooled contexts
+     * always enter their own state, so they keep a single tuple instead of
+     * allocating one each time they are switched to.
+     */
+    PhaseData createPhaseData(IPhaseState<?> state) {
+        if (this.pool == null || state != this.state) {
+            return new PhaseData(this, state);
+        }
+        if (this.pooledData == null) {
+            this.pooledData = new PhaseData(this, state);
+        }
+        return this.pooledData;
+    }
+
+    /**
+     * Clears everything added to this context while it was built and used,
+     * keeping the capture suppliers themselves so a {@link PhaseContextPool}
+     * can hand the context out again without reallocating them.
+     */
+    protected void reset() {
+        this.isCompleted = false;
+        this.stackTrace = null;
+        this.owner = null;
+        this.notifier = null;
+        this.source = null;
+        this.processImmediately = false;
+        if (this.blocksSupplier != null) {
+            this.blocksSupplier.reset();
+        }
+        if (this.blockItemDropsSupplier != null) {
+            this.blockItemDropsSupplier.reset();
+        }
+        if (this.blockItemEntityDropsSupplier != null) {
+            this.blockItemEntityDropsSupplier.reset();
+        }
+        if (this.capturedItemsSupplier != null) {
+            this.capturedItemsSupplier.reset();
+        }
+        if (this.capturedEntitiesSupplier != null) {
+            this.capturedEntitiesSupplier.reset();
+        }
+        if (this.capturedItemStackSupplier != null) {
+            this.capturedItemStackSupplier.reset();
+        }
+        if (this.entityItemDropsSupplier != null) {
+            this.entityItemDropsSupplier.reset();
+        }
+        if (this.entityItemEntityDropsSupplier != null) {
+            this.entityItemEntityDropsSupplier.reset();
+        }
+        if (this.blockEntitySpawnSupplier != null) {
+            this.blockEntitySpawnSupplier.reset();
+        }
+        if (this.captureBlockPos != null) {
+            this.captureBlockPos.setPos(null);
+            this.captureBlockPos.setWorld((IMixinWorldServer) null);
+        }
     }
 
 
@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A per-thread pool of {@link PhaseContext}s for states that are entered
+ * many times per tick, such as entity, tile entity and block ticks.
+ *
+ * <p>Contexts handed out by {@link #acquire()} are created once by the
+ * factory, including any capture suppliers they add, and are reset and
+ * returned to the pool when they are {@link PhaseContext#close() closed}.
+ * Because ticks can nest (an entity tick causing a block tick, riding
+ * entities, etc.), each thread keeps a small stack of idle contexts rather
+ * than a single instance.</p>
+ *
+ * <p>A pooled context must not be retained after it has been closed.</p>
+ *
+ * @param <C> The type of context
+ */
+public final class PhaseContextPool<C extends PhaseContext<C>> {
+
+    private static final int MAX_IDLE_CONTEXTS = 16;
+
+    private final Supplier<C> factory;
+    private final ThreadLocal<ArrayDeque<C>> idle = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public PhaseContextPool(Supplier<C> factory) {
+        this.factory = checkNotNull(factory, "factory");
+    }
+
+    /**
+     * Gets an idle context for the current thread, or creates a new one if
+     * all pooled contexts are in use.
+     *
+     * @return A fresh, not yet completed context
+     */
+    public C acquire() {
+        final C context = this.idle.get().pollFirst();
+        if (context != null) {
+            return context;
+        }
+        final C created = this.factory.get();
+        created.pool = this;
+        return created;
+    }
+
+    @SuppressWarnings("unchecked")
+    void release(PhaseContext<?> context) {
+        if (!context.isCompleted) {
+            // Either never switched to, or already released by an earlier close
+            return;
+        }
+        context.reset();
+        final ArrayDeque<C> idle = this.idle.get();
+        if (idle.size() < MAX_IDLE_CONTEXTS) {
+            idle.push((C) context);
+        }
+    }
+}
@@ -84,7 +84,7 @@ private PhaseStack push(PhaseData tuple) {
     }
 
     PhaseStack push(IPhaseState<?> state, PhaseContext<?> context) {
-        return push(new PhaseData(context, state));
+        return push(context.createPhaseData(state));
     }
 
     public void forEach(Consumer<PhaseData> consumer) {
@@ -82,7 +82,6 @@
 import org.spongepowered.common.event.tracking.phase.tick.DimensionContext;
 import org.spongepowered.common.event.tracking.phase.tick.EntityTickContext;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
-import org.spongepowered.common.event.tracking.phase.tick.TileEntityTickContext;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.block.IMixinBlock;
 import org.spongepowered.common.interfaces.block.IMixinBlockEventData;
@@ -148,31 +147,34 @@ public static void tickEntity(net.minecraft.entity.Entity entityIn) {
         if (!mixinEntity.shouldTick()) {
             return;
         }
-        final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext()
-            .source(entityIn);
         try (final StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
-             final EntityTickContext context = tickContext;
+             final EntityTickContext context = TickPhase.Tick.ENTITY.createPhaseContext().source(entityIn);
              final Timing entityTiming = mixinEntity.getTimingsHandler()
         ) {
-
-            mixinEntity.getNotifierUser()
-                    .ifPresent(notifier -> {
-                        frame.addContext(EventContextKeys.NOTIFIER, notifier);
-                        context.notifier(notifier);
-                    });
-            mixinEntity.getCreatorUser()
-                    .ifPresent(owner -> {
-                        if (mixinEntity instanceof EntityFallingBlock) {
-                            frame.pushCause(owner);
-                        }
-                        frame.addContext(EventContextKeys.OWNER, owner);
-                        context.owner(owner);
-                    });
-            context.buildAndSwitch();
-            entityTiming.startTiming();
-            entityIn.onUpdate();
+            try {
+                mixinEntity.getNotifierUser()
+                        .ifPresent(notifier -> {
+                            frame.addContext(EventContextKeys.NOTIFIER, notifier);
+                            context.notifier(notifier);
+                        });
+                mixinEntity.getCreatorUser()
+                        .ifPresent(owner -> {
+                            if (mixinEntity instanceof EntityFallingBlock) {
+                                frame.pushCause(owner);
+                            }
+                            frame.addContext(EventContextKeys.OWNER, owner);
+                            context.owner(owner);
+                        });
+                context.buildAndSwitch();
+                entityTiming.startTiming();
+                entityIn.onUpdate();
+            } catch (Exception | NoClassDefFoundError e) {
+                // Reported before the pooled context is closed and reset, so the report still has its source
+                PhaseTracker.getInstance().printExceptionFromPhase(e, context);
+            }
         } catch (Exception | NoClassDefFoundError e) {
-            PhaseTracker.getInstance().printExceptionFromPhase(e, tickContext);
+            // The pooled context is already closed and reset here, it doesn't describe this tick anymore
+            PhaseTracker.getInstance().printExceptionFromPhase(e);
         }
     }
 
@@ -186,31 +188,36 @@ public static void tickRidingEntity(net.minecraft.entity.Entity entity) {
 
         final Optional<User> notifierUser = mixinEntity.getNotifierUser();
         final Optional<User> creatorUser = mixinEntity.getCreatorUser();
-        final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext()
-            .source(entity)
-            .notifier(() -> notifierUser)
-            .owner(() -> creatorUser);
         try (final StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
-             final EntityTickContext context = tickContext;
+             final EntityTickContext context = TickPhase.Tick.ENTITY.createPhaseContext()
+                 .source(entity)
+                 .notifier(() -> notifierUser)
+                 .owner(() -> creatorUser);
              final Timing entityTiming = mixinEntity.getTimingsHandler()
              ) {
-            entityTiming.startTiming();
-            frame.pushCause(entity);
-            mixinEntity.getNotifierUser()
-                .ifPresent(notifier -> {
-                    frame.addContext(EventContextKeys.NOTIFIER, notifier);
-                    context.notifier(notifier);
-                });
-            mixinEntity.getCreatorUser()
-                .ifPresent(creator -> {
-                    frame.addContext(EventContextKeys.OWNER, creator);
-                    context.owner(creator);
+            try {
+                entityTiming.startTiming();
+                frame.pushCause(entity);
+                mixinEntity.getNotifierUser()
+                    .ifPresent(notifier -> {
+                        frame.addContext(EventContextKeys.NOTIFIER, notifier);
+                        context.notifier(notifier);
+                    });
+                mixinEntity.getCreatorUser()
+                    .ifPresent(creator -> {
+                        frame.addContext(EventContextKeys.OWNER, creator);
+                        context.owner(creator);
 
-                });
-            context.buildAndSwitch();
-            entity.updateRidden();
+                    });
+                context.buildAndSwitch();
+                entity.updateRidden();
+            } catch (Exception | NoClassDefFoundError e) {
+                // Reported before the pooled context is closed and reset, so the report still has its source
+                PhaseTracker.getInstance().printExceptionFromPhase(e, context);
+            }
         } catch (Exception | NoClassDefFoundError e) {
-            PhaseTracker.getInstance().printExceptionFromPhase(e, tickContext);
+            // The pooled context is already closed and reset here, it doesn't describe this tick anymore
+            PhaseTracker.getInstance().printExceptionFromPhase(e);
         }
     }
 
@@ -225,37 +232,42 @@ public static void tickTileEntity(IMixinWorldServer mixinWorldServer, ITickable
         if (!mixinTileEntity.shouldTick()) {
             return;
         }
-        final TileEntityTickContext context = TickPhase.Tick.TILE_ENTITY.createPhaseContext().source(tile);
         try (final StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
-             final PhaseContext<?> phaseContext = context) {
-            frame.pushCause(tile);
+             final PhaseContext<?> phaseContext = TickPhase.Tick.TILE_ENTITY.createPhaseContext().source(tile)) {
+            try {
+                frame.pushCause(tile);
+
+                // Add notifier and owner so we don't have to perform lookups during the phases and other processing
+                chunk.getBlockNotifier(pos)
+                        .ifPresent(notifier -> {
+                            frame.addContext(EventContextKeys.NOTIFIER, notifier);
+                            phaseContext.notifier(notifier);
+                        });
+
+                // Allow the tile entity to validate the owner of itself. As long as the tile entity
+                // chunk is already loaded and activated, and the tile entity has already loaded
+                // the owner of itself.
+                final Optional<User> blockOwner = mixinTileEntity.getSpongeOwner();
+                blockOwner.ifPresent(owner -> {
+                    frame.addContext(EventContextKeys.OWNER, blockOwner.get());
+                    phaseContext.owner(blockOwner.get());
+                });
+                // Add the block snapshot of the tile entity for caches to avoid creating multiple snapshots during processing
+                // This is a lazy evaluating snapshot to avoid the overhead of snapshot creation
 
-            // Add notifier and owner so we don't have to perform lookups during the phases and other processing
-            chunk.getBlockNotifier(pos)
-                    .ifPresent(notifier -> {
-                        frame.addContext(EventContextKeys.NOTIFIER, notifier);
-                        phaseContext.notifier(notifier);
-                    });
+                // Finally, switch the context now that we have the owner and notifier
+                phaseContext.buildAndSwitch();
 
-            // Allow the tile entity to validate the owner of itself. As long as the tile entity
-            // chunk is already loaded and activated, and the tile entity has already loaded
-            // the owner of itself.
-            final Optional<User> blockOwner = mixinTileEntity.getSpongeOwner();
-            blockOwner.ifPresent(owner -> {
-                frame.addContext(EventContextKeys.OWNER, blockOwner.get());
-                phaseContext.owner(blockOwner.get());
-            });
-            // Add the block snapshot of the tile entity for caches to avoid creating multiple snapshots during processing
-            // This is a lazy evaluating snapshot to avoid the overhead of snapshot creation
-
-            // Finally, switch the context now that we have the owner and notifier
-            phaseContext.buildAndSwitch();
-
-            try (Timing timing = mixinTileEntity.getTimingsHandler().startTiming()) {
-                tile.update();
+                try (Timing timing = mixinTileEntity.getTimingsHandler().startTiming()) {
+                    tile.update();
+                }
+            } catch (Exception e) {
+                // Reported before the pooled context is closed and reset, so the report still has its source
+                PhaseTracker.getInstance().printExceptionFromPhase(e, phaseContext);
             }
         } catch (Exception e) {
-            PhaseTracker.getInstance().printExceptionFromPhase(e, context);
+            // The pooled context is already closed and reset here, it doesn't describe this tick anymore
+            PhaseTracker.getInstance().printExceptionFromPhase(e);
         }
     }
 
@@ -294,10 +306,16 @@ public static void updateTickBlock(IMixinWorldServer mixinWorld, Block block, Bl
             // Now actually switch to the new phase
 
             try (PhaseContext<?> context = phaseContext) {
-                context.buildAndSwitch();
-                block.updateTick(world, pos, state, random);
+                try {
+                    context.buildAndSwitch();
+                    block.updateTick(world, pos, state, random);
+                } catch (Exception | NoClassDefFoundError e) {
+                    // Reported before the pooled context is closed and reset, so the report still has its source
+                    phaseTracker.printExceptionFromPhase(e, context);
+                }
             } catch (Exception | NoClassDefFoundError e) {
-                phaseTracker.printExceptionFromPhase(e, phaseContext);
+                // The pooled context is already closed and reset here, it doesn't describe this tick anymore
+                phaseTracker.printExceptionFromPhase(e);
             }
         }
     }
@@ -336,10 +354,16 @@ public static void randomTickBlock(PhaseTracker phaseTracker, IMixinWorldServer
             ((IPhaseState) currentState).appendNotifierPreBlockTick(mixinWorld, pos, current.context, phaseContext);
             // Now actually switch to the new phase
             try (PhaseContext<?> context = phaseContext) {
-                context.buildAndSwitch();
-                block.randomTick(world, pos, state, random);
+                try {
+                    context.buildAndSwitch();
+                    block.randomTick(world, pos, state, random);
+                } catch (Exception | NoClassDefFoundError e) {
+                    // Reported before the pooled context is closed and reset, so the report still has its source
+                    phaseTracker.printExceptionFromPhase(e, context);
+                }
             } catch (Exception | NoClassDefFoundError e) {
-                phaseTracker.printExceptionFromPhase(e, phaseContext);
+                // The pooled context is already closed and reset here, it doesn't describe this tick anymore
+                phaseTracker.printExceptionFromPhase(e);
             }
         }
     }
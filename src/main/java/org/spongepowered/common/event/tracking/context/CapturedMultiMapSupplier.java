@@ -81,6 +81,17 @@ public final void acceptAndClearIfNotEmpty(BiConsumer<K, V> consumer) {
         }
     }
 
+    /**
+     * Discards any captures so this supplier can be reused by a pooled
+     * context. A multimap that still holds captures is dropped rather than
+     * cleared, in case it was handed out and is still referenced.
+     */
+    public final void reset() {
+        if (this.captured != null && !this.captured.isEmpty()) {
+            this.captured = null;
+        }
+    }
+
     /**
      * If not empty, activates the {@link BiConsumer} with captures.
      * 
@@ -83,6 +83,17 @@ public final List<T> orElse(List<T> list) {
         return this.isEmpty() ? list : this.captured;
     }
 
+    /**
+     * Discards any captures so this supplier can be reused by a pooled
+     * context. A list that still holds captures is dropped rather than
+     * cleared, in case it was handed out and is still referenced.
+     */
+    public final void reset() {
+        if (this.captured != null && !this.captured.isEmpty()) {
+            this.captured = null;
+        }
+    }
+
     public final List<T> orEmptyList() {
         return this.captured == null ? Collections.emptyList() : this.captured;
     }
@@ -38,6 +38,7 @@
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
@@ -48,15 +49,17 @@
 
 class TileEntityTickPhaseState extends LocationBasedTickPhaseState<TileEntityTickContext> {
 
+    private final PhaseContextPool<TileEntityTickContext> contextPool = new PhaseContextPool<>(() -> new TileEntityTickContext()
+            .addEntityCaptures()
+            .addEntityDropCaptures()
+            .addBlockCaptures());
+
     TileEntityTickPhaseState() {
     }
 
     @Override
     public TileEntityTickContext createPhaseContext() {
-        return new TileEntityTickContext()
-                .addEntityCaptures()
-                .addEntityDropCaptures()
-                .addBlockCaptures();
+        return this.contextPool.acquire();
     }
 
     @Override
@@ -25,6 +25,7 @@
 package org.spongepowered.common.interfaces;
 
 import com.mojang.authlib.properties.Property;
+import io.netty.buffer.ByteBuf;
 import org.spongepowered.api.MinecraftVersion;
 
 import java.net.InetSocketAddress;
@@ -52,4 +53,13 @@ public interface IMixinNetworkManager {
     Property[] getSpoofedProfile();
 
     void setSpoofedProfile(Property[] profile);
+
+    /**
+     * Writes a play packet that was already encoded, its id followed by its
+     * data, skipping the packet encoder. The buffer is released once written,
+     * or right away if the channel is closed.
+     *
+     * @param encodedPacket The encoded packet
+     */
+    void sendEncodedPacket(ByteBuf encodedPacket);
 }
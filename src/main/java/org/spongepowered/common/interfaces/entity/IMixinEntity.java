@@ -41,6 +41,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.world.CreatureCounts;
 
 import java.util.List;
 import java.util.Optional;
@@ -146,6 +147,10 @@ default void onJoinWorld() {
 
     void setActiveChunk(IMixinChunk chunk);
 
+    @Nullable CreatureCounts.Entry getCreatureCountEntry();
+
+    void setCreatureCountEntry(CreatureCounts.Entry entry);
+
     boolean shouldTick();
 
     void setInvulnerable(boolean value);
@@ -27,6 +27,7 @@
 import net.minecraft.world.World;
 
 import java.nio.file.Path;
+import java.util.BitSet;
 
 public interface IMixinAnvilChunkLoader {
 
@@ -35,4 +36,15 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Gets which chunks of a region exist, either in the region file or in
+     * the queue of chunks waiting to be saved. The region file is only read
+     * if it exists.
+     *
+     * @param regionX The region x coordinate
+     * @param regionZ The region z coordinate
+     * @return The existing chunks, indexed by {@code (z & 31) << 5 | (x & 31)}
+     */
+    BitSet getExistingChunksInRegion(int regionX, int regionZ);
+
 }
@@ -41,6 +41,7 @@
 import org.spongepowered.common.config.type.GeneralConfigBase;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.world.CreatureCounts;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -96,8 +97,20 @@ public interface IMixinWorldServer extends IMixinWorld {
 
     ExecutorService getLightingExecutor();
 
+    /**
+     * Gets the amount of asynchronous lighting updates that are currently
+     * queued for this world. Always 0 when async lighting is disabled.
+     *
+     * @return The queued lighting update count
+     */
+    default int getQueuedLightingUpdateCount() {
+        return 0;
+    }
+
     WorldTimingsHandler getTimingsHandler();
 
+    CreatureCounts getCreatureCounts();
+
     int getChunkGCTickInterval();
 
     long getChunkUnloadDelay();
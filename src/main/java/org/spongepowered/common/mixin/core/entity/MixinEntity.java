@@ -136,6 +136,7 @@
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.CreatureCounts;
 
 import java.lang.ref.WeakReference;
 import java.util.Collection;
@@ -165,6 +166,7 @@ public abstract class MixinEntity implements IMixinEntity {
     private EntityType entityType = SpongeImpl.getRegistry().getTranslated(this.getClass(), EntityType.class);
     private boolean teleporting;
     private WeakReference<IMixinChunk> activeChunk = new WeakReference<>(null);
+    @Nullable private CreatureCounts.Entry creatureCountEntry;
     private net.minecraft.entity.Entity teleportVehicle;
     private float origWidth;
     private float origHeight;
@@ -1375,6 +1377,17 @@ public void setActiveChunk(@Nullable IMixinChunk chunk) {
         this.activeChunk = new WeakReference<IMixinChunk>(chunk);
     }
 
+    @Override
+    @Nullable
+    public CreatureCounts.Entry getCreatureCountEntry() {
+        return this.creatureCountEntry;
+    }
+
+    @Override
+    public void setCreatureCountEntry(CreatureCounts.Entry entry) {
+        this.creatureCountEntry = entry;
+    }
+
     @Override
     public boolean shouldTick() {
         final IMixinChunk chunk = this.getActiveChunk();
@@ -27,7 +27,9 @@
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.ai.EntityAITasks;
+import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumHand;
 import net.minecraft.world.GameRules;
 import net.minecraft.world.World;
@@ -70,6 +72,7 @@
 import org.spongepowered.common.interfaces.entity.IMixinGriefer;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.CreatureCounts;
 
 import java.util.Iterator;
 import java.util.List;
@@ -221,6 +224,22 @@ public void setTarget(@Nullable Entity target) {
         }
     }
 
+    @Inject(method = "enablePersistence", at = @At("RETURN"))
+    private void onEnablePersistence(CallbackInfo ci) {
+        CreatureCounts.onPersistenceChanged((EntityLiving) (Object) this);
+    }
+
+    @Inject(method = "readEntityFromNBT", at = @At("RETURN"))
+    private void onReadPersistence(NBTTagCompound compound, CallbackInfo ci) {
+        CreatureCounts.onPersistenceChanged((EntityLiving) (Object) this);
+    }
+
+    @Inject(method = "updateEquipmentIfNeeded", at = @At(value = "FIELD", target = "Lnet/minecraft/entity/EntityLiving;persistenceRequired:Z",
+            opcode = Opcodes.PUTFIELD, shift = At.Shift.AFTER))
+    private void onPickupPersistence(EntityItem itemEntity, CallbackInfo ci) {
+        CreatureCounts.onPersistenceChanged((EntityLiving) (Object) this);
+    }
+
     /**
      * @author gabizou - January 4th, 2016
      *
@@ -659,13 +659,9 @@ public void spawnParticles(ParticleEffect particleEffect, Vector3d position, int
         checkNotNull(position, "The position cannot be null");
         checkArgument(radius > 0, "The radius has to be greater then zero!");
 
-        List<Packet<?>> packets = SpongeParticleHelper.toPackets((SpongeParticleEffect) particleEffect, position);
-
-        if (!packets.isEmpty()) {
-            if (position.sub(this.posX, this.posY, this.posZ).lengthSquared() < (long) radius * (long) radius) {
-                for (Packet<?> packet : packets) {
-                    this.connection.sendPacket(packet);
-                }
+        if (position.sub(this.posX, this.posY, this.posZ).lengthSquared() < (long) radius * (long) radius) {
+            for (Packet<?> packet : SpongeParticleHelper.toPackets((SpongeParticleEffect) particleEffect, position)) {
+                this.connection.sendPacket(packet);
             }
         }
     }
@@ -39,6 +39,7 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.interfaces.IMixinMultiBlockCarrier;
+import org.spongepowered.common.interfaces.inventory.IMixinChangeTrackedInventory;
 import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.item.inventory.adapter.impl.MinecraftInventoryAdapter;
 import org.spongepowered.common.item.inventory.lens.Fabric;
@@ -56,7 +57,7 @@
 
 @Mixin(InventoryLargeChest.class)
 public abstract class MixinInventoryLargeChest implements MinecraftInventoryAdapter<IInventory>, CarriedInventory<MultiBlockCarrier>, ReusableLensProvider<IInventory, ItemStack>,
-        IMixinMultiBlockCarrier {
+        IMixinMultiBlockCarrier, IMixinChangeTrackedInventory {
 
     @Shadow @Final public ILockableContainer upperChest;
     @Shadow @Final public ILockableContainer lowerChest;
@@ -99,6 +100,18 @@ public List<Location<World>> getLocations() {
         return Collections.unmodifiableList(list);
     }
 
+    @Override
+    public int getInventoryChangeCount() {
+        // Either half may be changed on its own, such as by a hopper
+        return ((IMixinChangeTrackedInventory) this.upperChest).getInventoryChangeCount()
+                + ((IMixinChangeTrackedInventory) this.lowerChest).getInventoryChangeCount();
+    }
+
+    @Override
+    public boolean isInventoryChangeTracked() {
+        return this.upperChest instanceof IMixinChangeTrackedInventory && this.lowerChest instanceof IMixinChangeTrackedInventory;
+    }
+
     @Override
     public CarriedInventory<? extends Carrier> getInventory() {
         return this;
@@ -66,11 +66,13 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.OptimizationCategory;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhaseUtil;
 import org.spongepowered.common.interfaces.IMixinContainer;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
+import org.spongepowered.common.interfaces.inventory.IMixinChangeTrackedInventory;
 import org.spongepowered.common.item.inventory.adapter.impl.MinecraftInventoryAdapter;
 import org.spongepowered.common.item.inventory.adapter.impl.SlotCollectionIterator;
 import org.spongepowered.common.item.inventory.adapter.impl.slots.SlotAdapter;
@@ -144,6 +146,15 @@ public ItemStack slotClick(int slotId, int dragType, ClickType clickTypeIn, Enti
 
     private LinkedHashMap<IInventory, Set<Slot>> allInventories = new LinkedHashMap<>();
 
+    // Dirty slot tracking, indexed by the position of the inventory in trackedInventories
+    private IMixinChangeTrackedInventory[] trackedInventories = new IMixinChangeTrackedInventory[0];
+    private int[] trackedChangeCounts = new int[0];
+    private boolean[] trackedInventoryChanged = new boolean[0];
+    // The tracked inventory of each slot, -1 if the slot is always compared
+    private int[] slotTrackedInventory = new int[0];
+    private int syncsSinceFullVerify;
+    private boolean fullVerifyPending = true;
+
     /*
     Named specifically for sponge to avoid potential illegal access errors when a mod container
     implements an interface that adds a defaulted method. Due to the JVM and compiled bytecode,
@@ -177,6 +188,55 @@ private void spongeInit() {
         this.allInventories.clear();
         this.inventorySlots.forEach(slot -> this.allInventories.computeIfAbsent(slot.inventory, (i) -> new HashSet<>()).add(slot));
 
+        final List<IMixinChangeTrackedInventory> tracked = new ArrayList<>();
+        this.slotTrackedInventory = new int[this.inventorySlots.size()];
+        for (int i = 0; i < this.inventorySlots.size(); i++) {
+            final IInventory inventory = this.inventorySlots.get(i).inventory;
+            if (inventory instanceof IMixinChangeTrackedInventory && ((IMixinChangeTrackedInventory) inventory).isInventoryChangeTracked()) {
+                int index = tracked.indexOf(inventory);
+                if (index == -1) {
+                    index = tracked.size();
+                    tracked.add((IMixinChangeTrackedInventory) inventory);
+                }
+                this.slotTrackedInventory[i] = index;
+            } else {
+                this.slotTrackedInventory[i] = -1;
+            }
+        }
+        this.trackedInventories = tracked.toArray(new IMixinChangeTrackedInventory[0]);
+        this.trackedChangeCounts = new int[this.trackedInventories.length];
+        this.trackedInventoryChanged = new boolean[this.trackedInventories.length];
+        // The synced stacks have not been compared against the new slots yet
+        this.fullVerifyPending = true;
+    }
+
+    /**
+     * Updates which of the tracked inventories of this container have been
+     * marked dirty since the last sync.
+     *
+     * @param captureOnly Whether the synced stacks will not be updated
+     * @return True if every slot has to be compared
+     */
+    private boolean updateTrackedInventories(boolean captureOnly) {
+        if (captureOnly) {
+            // Changed slots are not synced, so the changes must not be consumed
+            return true;
+        }
+        final OptimizationCategory optimizations = SpongeImpl.getGlobalConfig().getConfig().getOptimizations();
+        boolean verifyAll = this.fullVerifyPending || this.captureInventory || !optimizations.useContainerDirtySlotTracking();
+        if (!verifyAll && ++this.syncsSinceFullVerify >= optimizations.getContainerFullVerifyInterval()) {
+            verifyAll = true;
+        }
+        if (verifyAll) {
+            this.syncsSinceFullVerify = 0;
+            this.fullVerifyPending = false;
+        }
+        for (int i = 0; i < this.trackedInventories.length; i++) {
+            final int count = this.trackedInventories[i].getInventoryChangeCount();
+            this.trackedInventoryChanged[i] = count != this.trackedChangeCounts[i];
+            this.trackedChangeCounts[i] = count;
+        }
+        return verifyAll;
     }
 
     @Override
@@ -221,8 +281,17 @@ public void detectAndSendChanges() {
     @Override
     public void detectAndSendChanges(boolean captureOnly) {
         this.spongeInit();
+        final boolean verifyAll = this.updateTrackedInventories(captureOnly);
 
         for (int i = 0; i < this.inventorySlots.size(); ++i) {
+            // Sponge start - skip slots of inventories that were not marked dirty
+            if (!verifyAll && i < this.slotTrackedInventory.length) {
+                final int tracked = this.slotTrackedInventory[i];
+                if (tracked != -1 && !this.trackedInventoryChanged[tracked]) {
+                    continue;
+                }
+            }
+            // Sponge end
             final Slot slot = this.inventorySlots.get(i);
             final ItemStack itemstack = slot.getStack();
             ItemStack itemstack1 = this.inventoryItemStacks.get(i);
@@ -115,6 +115,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.entity.player.tab.SpongeTabList;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseData;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -130,6 +131,8 @@
 import org.spongepowered.common.interfaces.entity.player.IMixinInventoryPlayer;
 import org.spongepowered.common.interfaces.network.IMixinNetHandlerPlayServer;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
+import org.spongepowered.common.network.PlayerMoveCoalescer;
+import org.spongepowered.common.network.PlayerMovement;
 import org.spongepowered.common.network.keepalive.SpongeClientWaiter;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
@@ -180,6 +183,9 @@ public abstract class MixinNetHandlerPlayServer implements PlayerConnection, IMi
     @Shadow private long field_194404_h;
     private boolean justTeleported = false;
     @Nullable private Location<World> lastMoveLocation = null;
+    private final PlayerMovement movement = new PlayerMovement();
+    private final PlayerMoveCoalescer pendingMove = new PlayerMoveCoalescer();
+    @Nullable private World pendingMoveWorld;
 
     private final AtomicInteger numResourcePacksInTransit = new AtomicInteger();
     @Nullable private ResourcePack lastReceivedPack, lastAcceptedPack;
@@ -423,6 +429,8 @@ public String onNormalizeSpace(String input) {
     @Inject(method = "setPlayerLocation(DDDFFLjava/util/Set;)V", at = @At(value = "RETURN"))
     public void setPlayerLocation(double x, double y, double z, float yaw, float pitch, Set<?> relativeSet, CallbackInfo ci) {
         this.justTeleported = true;
+        // Coalesced movements from before the teleport shouldn't be able to move the player back
+        this.pendingMove.reset();
     }
 
     /**
@@ -442,75 +450,128 @@ private boolean throwMoveEvent(EntityPlayerMP playerMP, CPacketPlayer packetIn)
             }
 
             // Sponge Start - Movement event
-            Player player = (Player) this.player;
-            IMixinEntityPlayerMP mixinPlayer = (IMixinEntityPlayerMP) this.player;
-            Vector3d fromrot = player.getRotation();
-
-            // If Sponge used the player's current location, the delta might never be triggered which could be exploited
-            Location<World> from = player.getLocation();
-            if (this.lastMoveLocation != null) {
-                from = this.lastMoveLocation;
-            }
-
-            Vector3d torot = new Vector3d(packetIn.pitch, packetIn.yaw, 0);
-            Location<World> to = new Location<>(player.getWorld(), packetIn.x, packetIn.y, packetIn.z);
-
-            // Minecraft sends a 0, 0, 0 position when rotation only update occurs, this needs to be recognized and corrected
-            boolean rotationOnly = !packetIn.moving && packetIn.rotating;
-
-            if (rotationOnly) {
-                // Correct the to location so it's not misrepresented to plugins, only when player rotates without moving
-                // In this case it's only a rotation update, which isn't related to the to location
-                from = player.getLocation();
-                to = from;
+            // If Sponge used the player's current location, the delta might never be triggered which could be exploited.
+            final Location<World> lastMove = this.lastMoveLocation;
+            final PlayerMovement movement = this.movement;
+            movement.resolve(packetIn.moving, packetIn.rotating, packetIn.x, packetIn.y, packetIn.z, packetIn.pitch, packetIn.yaw,
+                    lastMove == null ? null : lastMove.getPosition(), this.player.posX, this.player.posY, this.player.posZ,
+                    this.player.rotationPitch, this.player.rotationYaw);
+            final World fromWorld = movement.isFromLastMove() ? lastMove.getExtent() : (World) this.player.world;
+
+            ((IMixinEntityPlayerMP) this.player).setVelocityOverride(new Vector3d(movement.getToX() - movement.getFromX(),
+                    movement.getToY() - movement.getFromY(), movement.getToZ() - movement.getFromZ()));
+
+            if (!ShouldFire.MOVE_ENTITY_EVENT) {
+                this.pendingMove.reset();
+                if (movement.isSignificant()) {
+                    // Nobody listens, so nothing can change the movement, but the resource pack request still follows it
+                    this.lastMoveLocation = new Location<>((World) this.player.world, movement.getToX(), movement.getToY(), movement.getToZ());
+                    this.resendLatestResourcePackRequest();
+                }
+                return playerMP.queuedEndExit;
             }
 
-            // Minecraft does the same with rotation when it's only a positional update
-            boolean positionOnly = packetIn.moving && !packetIn.rotating;
-            if (positionOnly) {
-                // Correct the new rotation to match the old rotation
-                torot = fromrot;
+            if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useCoalescedPlayerMoveEvents()) {
+                // The event is thrown once for all movements of this tick, see onUpdateThrowMoveEvent
+                if (this.pendingMoveWorld != fromWorld) {
+                    this.pendingMove.reset();
+                    this.pendingMoveWorld = fromWorld;
+                }
+                this.pendingMove.add(movement);
+                return playerMP.queuedEndExit;
             }
 
-            ((IMixinEntityPlayerMP) this.player).setVelocityOverride(to.getPosition().sub(from.getPosition()));
-
-            double deltaSquared = to.getPosition().distanceSquared(from.getPosition());
-            double deltaAngleSquared = fromrot.distanceSquared(torot);
-
-            // These magic numbers are sad but help prevent excessive lag from this event.
-            // eventually it would be nice to not have them
-            if (deltaSquared > ((1f / 16) * (1f / 16)) || deltaAngleSquared > (.15f * .15f)) {
-                Transform<World> fromTransform = player.getTransform().setLocation(from).setRotation(fromrot);
-                Transform<World> toTransform = player.getTransform().setLocation(to).setRotation(torot);
-                Sponge.getCauseStackManager().pushCause(player);
-                MoveEntityEvent event = SpongeEventFactory.createMoveEntityEvent(Sponge.getCauseStackManager().getCurrentCause(), fromTransform, toTransform, player);
-                SpongeImpl.postEvent(event);
-                Sponge.getCauseStackManager().popCause();
-                if (event.isCancelled()) {
-                    mixinPlayer.setLocationAndAngles(fromTransform);
-                    this.lastMoveLocation = from;
-                    ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
+            if (movement.isSignificant()) {
+                final Transform<World> fromTransform = new Transform<>(fromWorld,
+                        new Vector3d(movement.getFromX(), movement.getFromY(), movement.getFromZ()),
+                        new Vector3d(movement.getFromPitch(), movement.getFromYaw(), 0));
+                final Transform<World> toTransform = new Transform<>((World) this.player.world,
+                        new Vector3d(movement.getToX(), movement.getToY(), movement.getToZ()),
+                        new Vector3d(movement.getToPitch(), movement.getToYaw(), 0));
+                if (this.postPlayerMoveEvent(fromTransform, toTransform)) {
                     return true;
-                } else if (!event.getToTransform().equals(toTransform)) {
-                    mixinPlayer.setLocationAndAngles(event.getToTransform());
-                    this.lastMoveLocation = event.getToTransform().getLocation();
-                    ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
-                    return true;
-                } else if (!from.equals(player.getLocation()) && this.justTeleported) {
-                    this.lastMoveLocation = player.getLocation();
-                    // Prevent teleports during the move event from causing odd behaviors
-                    this.justTeleported = false;
-                    ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
-                    return true;
-                } else {
-                    this.lastMoveLocation = event.getToTransform().getLocation();
                 }
-                this.resendLatestResourcePackRequest();
             }
         }
         return playerMP.queuedEndExit;
     }
 
+    /**
+     * Throws the {@link MoveEntityEvent} for a movement of the player.
+     *
+     * @param fromTransform The transform the player moved from
+     * @param toTransform The transform the player moved to
+     * @return True if the player was moved by the event or a listener, so
+     *     the movement shouldn't be processed any further
+     */
+    private boolean postPlayerMoveEvent(Transform<World> fromTransform, Transform<World> toTransform) {
+        final Player player = (Player) this.player;
+        final IMixinEntityPlayerMP mixinPlayer = (IMixinEntityPlayerMP) this.player;
+        final Location<World> from = fromTransform.getLocation();
+        Sponge.getCauseStackManager().pushCause(player);
+        MoveEntityEvent event = SpongeEventFactory.createMoveEntityEvent(Sponge.getCauseStackManager().getCurrentCause(), fromTransform, toTransform, player);
+        SpongeImpl.postEvent(event);
+        Sponge.getCauseStackManager().popCause();
+        if (event.isCancelled()) {
+            mixinPlayer.setLocationAndAngles(fromTransform);
+            this.lastMoveLocation = from;
+            mixinPlayer.setVelocityOverride(null);
+            return true;
+        } else if (!event.getToTransform().equals(toTransform)) {
+            mixinPlayer.setLocationAndAngles(event.getToTransform());
+            this.lastMoveLocation = event.getToTransform().getLocation();
+            mixinPlayer.setVelocityOverride(null);
+            return true;
+        } else if (!from.equals(player.getLocation()) && this.justTeleported) {
+            this.lastMoveLocation = player.getLocation();
+            // Prevent teleports during the move event from causing odd behaviors
+            this.justTeleported = false;
+            mixinPlayer.setVelocityOverride(null);
+            return true;
+        } else {
+            this.lastMoveLocation = event.getToTransform().getLocation();
+        }
+        this.resendLatestResourcePackRequest();
+        return false;
+    }
+
+    /**
+     * Throws a single move event for all movements the player sent during
+     * this tick, if move events are coalesced. The movements were already
+     * processed, so a cancelled or changed event moves the player back.
+     *
+     * @param ci The callback info
+     */
+    @Inject(method = "update", at = @At("HEAD"))
+    private void onUpdateThrowMoveEvent(CallbackInfo ci) {
+        final PlayerMoveCoalescer pendingMove = this.pendingMove;
+        if (!pendingMove.hasPending()) {
+            return;
+        }
+        final World fromWorld = this.pendingMoveWorld;
+        final boolean significant = pendingMove.isPendingSignificant();
+        pendingMove.reset();
+        this.pendingMoveWorld = null;
+        // The movements were already applied, so only a teleport by a listener of this event may be treated as one.
+        // A teleport earlier in the tick has already reset the pending movement.
+        this.justTeleported = false;
+        if (!significant || fromWorld != this.player.world) {
+            return;
+        }
+        if (!ShouldFire.MOVE_ENTITY_EVENT) {
+            // The listeners went away during this tick
+            this.resendLatestResourcePackRequest();
+            return;
+        }
+        final Transform<World> fromTransform = new Transform<>(fromWorld,
+                new Vector3d(pendingMove.getFromX(), pendingMove.getFromY(), pendingMove.getFromZ()),
+                new Vector3d(pendingMove.getFromPitch(), pendingMove.getFromYaw(), 0));
+        final Transform<World> toTransform = new Transform<>(fromWorld,
+                new Vector3d(pendingMove.getToX(), pendingMove.getToY(), pendingMove.getToZ()),
+                new Vector3d(pendingMove.getToPitch(), pendingMove.getToYaw(), 0));
+        this.postPlayerMoveEvent(fromTransform, toTransform);
+    }
+
     /**
      * @author gabizou - June 22nd, 2016
      * @author blood - May 6th, 2017
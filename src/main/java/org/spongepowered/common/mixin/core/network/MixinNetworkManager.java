@@ -24,7 +24,9 @@
  */
 package org.spongepowered.common.mixin.core.network;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.local.LocalAddress;
 import net.minecraft.network.INetHandler;
@@ -51,6 +53,8 @@ public abstract class MixinNetworkManager extends SimpleChannelInboundHandler im
     @Shadow private INetHandler packetListener;
 
     @Shadow public abstract SocketAddress getRemoteAddress();
+    @Shadow public abstract boolean isChannelOpen();
+    @Shadow private void flushOutboundQueue() { }
 
     private InetSocketAddress virtualHost;
     private MinecraftVersion version;
@@ -113,4 +117,15 @@ public int getLatency() {
         }
         throw new IllegalStateException("Latency is not currently available");
     }
+
+    @Override
+    public void sendEncodedPacket(ByteBuf encodedPacket) {
+        if (!this.isChannelOpen()) {
+            encodedPacket.release();
+            return;
+        }
+        // Keep the ordering with packets queued before the channel opened
+        this.flushOutboundQueue();
+        this.channel.writeAndFlush(encodedPacket).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+    }
 }
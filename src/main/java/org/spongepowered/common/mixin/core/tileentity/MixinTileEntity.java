@@ -65,6 +65,7 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
+import org.spongepowered.common.interfaces.inventory.IMixinChangeTrackedInventory;
 import org.spongepowered.common.registry.type.block.TileEntityTypeRegistryModule;
 import org.spongepowered.common.util.VecHelper;
 
@@ -78,7 +79,7 @@
 @NonnullByDefault
 @Mixin(net.minecraft.tileentity.TileEntity.class)
 @Implements(@Interface(iface = IMixinTileEntity.class, prefix = "tile$"))
-public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
+public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity, IMixinChangeTrackedInventory {
 
     private final TileEntityType tileType = SpongeImpl.getRegistry().getTranslated(this.getClass(), TileEntityType.class);
     // uses different name to not clash with SpongeForge
@@ -89,6 +90,7 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
     @Nullable private User spongeOwner;
     private boolean hasSetOwner = false;
     private WeakReference<IMixinChunk> activeChunk = new WeakReference<>(null);
+    private int inventoryChangeCount;
 
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World world;
@@ -107,6 +109,7 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
 
     @Inject(method = "markDirty", at = @At(value = "HEAD"))
     public void onMarkDirty(CallbackInfo ci) {
+        this.inventoryChangeCount++;
         if (this.world != null && !this.world.isRemote) {
             // This handles transfers to this TE from a source such as a Hopper
             PhaseTracker.getInstance().getCurrentPhaseData().context.getSource(TileEntity.class).ifPresent(currentTick -> {
@@ -118,6 +121,11 @@ public void onMarkDirty(CallbackInfo ci) {
         }
     }
 
+    @Override
+    public int getInventoryChangeCount() {
+        return this.inventoryChangeCount;
+    }
+
     @SuppressWarnings({"rawtypes"})
     @Inject(method = "register(Ljava/lang/String;Ljava/lang/Class;)V", at = @At(value = "RETURN"))
     private static void onRegister(String name, Class clazz, CallbackInfo callbackInfo) {
@@ -34,6 +34,10 @@
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMaps;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMaps;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -109,6 +113,7 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.CreatureCounts;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
@@ -139,6 +144,7 @@ public abstract class MixinChunk implements Chunk, IMixinChunk, IMixinCachable {
     private long scheduledForUnload = -1; // delay chunk unloads
     private boolean persistedChunk = false;
     private boolean isSpawning = false;
+    private final CreatureCounts creatureCounts = new CreatureCounts();
     private net.minecraft.world.chunk.Chunk[] neighbors = new net.minecraft.world.chunk.Chunk[4];
     private long cacheKey;
     private static final Direction[] CARDINAL_DIRECTIONS = new Direction[] {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
@@ -245,8 +251,14 @@ public void setIsSpawning(boolean spawning) {
         this.isSpawning = spawning;
     }
 
+    @Override
+    public CreatureCounts getCreatureCounts() {
+        return this.creatureCounts;
+    }
+
     @Inject(method = "addEntity", at = @At("RETURN"))
     private void onChunkAddEntity(Entity entityIn, CallbackInfo ci) {
+        CreatureCounts.onChunkAdd(this.creatureCounts, entityIn);
         if (!entityIn.isDead) {
             ((IMixinEntity) entityIn).setActiveChunk(this);
         }
@@ -259,6 +271,7 @@ private void onChunkAddTileEntity(BlockPos pos, TileEntity tileEntityIn, Callbac
 
     @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
     private void onChunkRemoveEntityAtIndex(Entity entityIn, int index, CallbackInfo ci) {
+        CreatureCounts.onChunkRemove(this.creatureCounts, entityIn);
         ((IMixinEntity) entityIn).setActiveChunk(null);
     }
 
@@ -752,13 +765,13 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
+    public Int2LongMap getTrackedIntPlayerPositions() {
+        return Int2LongMaps.EMPTY_MAP;
     }
 
     @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public Short2LongMap getTrackedShortPlayerPositions() {
+        return Short2LongMaps.EMPTY_MAP;
     }
 
     @Override
@@ -792,11 +805,11 @@ public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
+    public void setTrackedIntPlayerPositions(Int2LongMap trackedPositions) {
     }
 
     @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setTrackedShortPlayerPositions(Short2LongMap trackedPositions) {
     }
 
     // Continuing the rest of the implementation
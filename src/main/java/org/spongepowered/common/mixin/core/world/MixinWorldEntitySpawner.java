@@ -65,6 +65,7 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.SpawnerSpawnType;
+import org.spongepowered.common.world.CreatureCounts;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -85,6 +86,11 @@ public abstract class MixinWorldEntitySpawner {
     @Nullable
     private static EntityType spawnerEntityType;
     private List<Chunk> eligibleSpawnChunks = new ArrayList<>();
+    // The chunk positions and local creature counts of the players that affect spawning, used by the per-player mob cap
+    private int[] spawningPlayerChunkX = new int[0];
+    private int[] spawningPlayerChunkZ = new int[0];
+    private int[] spawningPlayerCreatureCounts = new int[0];
+    private int spawningPlayerCount;
 
     /**
      * @author blood - February 18th, 2017
@@ -122,6 +128,12 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
             // Since we allow for custom ranges, we need to adjust the div count based on the
             // mob spawn range set by server.
             final int MOB_SPAWN_COUNT_DIV = (2 * mobSpawnRange + 1) * (2 * mobSpawnRange + 1);
+            // The per player limits are summed from the chunk creature counts
+            final boolean perPlayerMobCap = CreatureCounts.isEnabled()
+                    && spongeWorld.getActiveConfig().getConfig().getSpawner().usePerPlayerMobCap();
+            if (perPlayerMobCap) {
+                this.resetSpawningPlayers(worldServerIn.playerEntities.size());
+            }
 
             for (EntityPlayer entityplayer : worldServerIn.playerEntities) {
                 // We treat players who do not affect spawning as "spectators"
@@ -131,6 +143,9 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
 
                 int playerPosX = MathHelper.floor(entityplayer.posX / 16.0D);
                 int playerPosZ = MathHelper.floor(entityplayer.posZ / 16.0D);
+                if (perPlayerMobCap) {
+                    this.addSpawningPlayer(playerPosX, playerPosZ);
+                }
 
                 for (int i = -mobSpawnRange; i <= mobSpawnRange; ++i) {
                     for (int j = -mobSpawnRange; j <= mobSpawnRange; ++j) {
@@ -192,17 +207,30 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
                 }
 
                 if ((!enumCreatureType.getPeacefulCreature() || spawnPeacefulMobs) && (enumCreatureType.getPeacefulCreature() || spawnHostileMobs)) {
-                    int entityCount = SpongeImplHooks.countEntities(worldServerIn, enumCreatureType, true);
-                    int maxCount = limit * chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
-                    if (entityCount > maxCount) {
-                        continue labelOuterLoop;
+                    int mobLimit;
+                    if (perPlayerMobCap) {
+                        mobLimit = this.countSpawningPlayerCreatures(worldServerIn, enumCreatureType, mobSpawnRange, limit);
+                        if (mobLimit <= 0) {
+                            continue labelOuterLoop;
+                        }
+                    } else {
+                        final int entityCount = CreatureCounts.isEnabled()
+                                ? spongeWorld.getCreatureCounts().get(enumCreatureType)
+                                : SpongeImplHooks.countEntities(worldServerIn, enumCreatureType, true);
+                        int maxCount = limit * chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
+                        if (entityCount > maxCount) {
+                            continue labelOuterLoop;
+                        }
+                        mobLimit = maxCount - entityCount + 1;
                     }
 
                     chunkIterator = this.eligibleSpawnChunks.iterator();
-                    int mobLimit = maxCount - entityCount + 1;
                     labelChunkStart:
                     while (chunkIterator.hasNext() && mobLimit > 0) {
                         final Chunk chunk = chunkIterator.next();
+                        if (perPlayerMobCap && !this.isBelowPlayerMobCap(chunk.x, chunk.z, mobSpawnRange, limit)) {
+                            continue;
+                        }
                         final BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
                         final BlockPos blockpos = getRandomChunkPosition(worldServerIn, chunk);
                         int k1 = blockpos.getX();
@@ -280,13 +308,16 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
 
                                                 if (entityNotColliding) {
                                                     ++spawnCount;
-                                                    worldServerIn.spawnEntity(entityliving);
+                                                    if (worldServerIn.spawnEntity(entityliving) && perPlayerMobCap) {
+                                                        this.onSpawningPlayerCreatureSpawned(entityliving, mobSpawnRange);
+                                                    }
                                                 } else {
                                                     entityliving.setDead();
                                                 }
 
                                                 mobLimit--;
-                                                if (mobLimit <= 0 || spawnCount >= SpongeImplHooks.getMaxSpawnPackSize(entityliving)) {
+                                                if (mobLimit <= 0 || spawnCount >= SpongeImplHooks.getMaxSpawnPackSize(entityliving)
+                                                    || (perPlayerMobCap && !this.isBelowPlayerMobCap(chunk.x, chunk.z, mobSpawnRange, limit))) {
                                                     continue labelChunkStart;
                                                 }
                                             }
@@ -307,6 +338,72 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
         }
     }
 
+    private void resetSpawningPlayers(int maxPlayers) {
+        if (this.spawningPlayerChunkX.length < maxPlayers) {
+            this.spawningPlayerChunkX = new int[maxPlayers];
+            this.spawningPlayerChunkZ = new int[maxPlayers];
+            this.spawningPlayerCreatureCounts = new int[maxPlayers];
+        }
+        this.spawningPlayerCount = 0;
+    }
+
+    private void addSpawningPlayer(int chunkX, int chunkZ) {
+        this.spawningPlayerChunkX[this.spawningPlayerCount] = chunkX;
+        this.spawningPlayerChunkZ[this.spawningPlayerCount] = chunkZ;
+        this.spawningPlayerCount++;
+    }
+
+    /**
+     * Counts the creatures of the given type in the loaded chunks around each
+     * spawning player.
+     *
+     * @return The number of creatures that may still spawn around all players
+     */
+    private int countSpawningPlayerCreatures(WorldServer worldServer, EnumCreatureType type, int mobSpawnRange, int limit) {
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) worldServer.getChunkProvider();
+        int remaining = 0;
+        for (int index = 0; index < this.spawningPlayerCount; index++) {
+            final int playerChunkX = this.spawningPlayerChunkX[index];
+            final int playerChunkZ = this.spawningPlayerChunkZ[index];
+            int count = 0;
+            for (int x = playerChunkX - mobSpawnRange; x <= playerChunkX + mobSpawnRange; x++) {
+                for (int z = playerChunkZ - mobSpawnRange; z <= playerChunkZ + mobSpawnRange; z++) {
+                    final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive(x, z);
+                    if (chunk != null) {
+                        count += ((IMixinChunk) chunk).getCreatureCounts().get(type);
+                    }
+                }
+            }
+            this.spawningPlayerCreatureCounts[index] = count;
+            if (count < limit) {
+                remaining += limit - count;
+            }
+        }
+        return remaining;
+    }
+
+    private boolean isBelowPlayerMobCap(int chunkX, int chunkZ, int mobSpawnRange, int limit) {
+        for (int index = 0; index < this.spawningPlayerCount; index++) {
+            if (Math.abs(this.spawningPlayerChunkX[index] - chunkX) <= mobSpawnRange
+                && Math.abs(this.spawningPlayerChunkZ[index] - chunkZ) <= mobSpawnRange
+                && this.spawningPlayerCreatureCounts[index] < limit) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void onSpawningPlayerCreatureSpawned(EntityLiving entity, int mobSpawnRange) {
+        final int chunkX = MathHelper.floor(entity.posX / 16.0D);
+        final int chunkZ = MathHelper.floor(entity.posZ / 16.0D);
+        for (int index = 0; index < this.spawningPlayerCount; index++) {
+            if (Math.abs(this.spawningPlayerChunkX[index] - chunkX) <= mobSpawnRange
+                && Math.abs(this.spawningPlayerChunkZ[index] - chunkZ) <= mobSpawnRange) {
+                this.spawningPlayerCreatureCounts[index]++;
+            }
+        }
+    }
+
     private static BlockPos getRandomChunkPosition(World worldIn, Chunk chunk)
     {
         int i = chunk.x * 16 + worldIn.rand.nextInt(16);
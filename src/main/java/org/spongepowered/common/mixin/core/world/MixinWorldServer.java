@@ -49,14 +49,12 @@
 import net.minecraft.init.Blocks;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.SPacketExplosion;
 import net.minecraft.profiler.Profiler;
 import net.minecraft.scoreboard.Scoreboard;
 import net.minecraft.scoreboard.ScoreboardSaveData;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.PlayerChunkMap;
-import net.minecraft.server.management.PlayerList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.IProgressUpdate;
 import net.minecraft.util.ITickable;
@@ -198,6 +196,7 @@
 import org.spongepowered.common.util.NonNullArrayList;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.CreatureCounts;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.WorldUtil;
@@ -239,6 +238,7 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private static final EnumSet<EnumFacing> NOTIFY_DIRECTIONS = EnumSet.of(EnumFacing.WEST, EnumFacing.EAST, EnumFacing.DOWN, EnumFacing.UP, EnumFacing.NORTH, EnumFacing.SOUTH);
 
     private final Map<net.minecraft.entity.Entity, Vector3d> rotationUpdates = new HashMap<>();
+    private final CreatureCounts creatureCounts = new CreatureCounts();
     private SpongeChunkGenerator spongegen;
     private SpongeConfig<? extends GeneralConfigBase> activeConfig;
     private long weatherStartTime;
@@ -1612,6 +1612,16 @@ public void onSpongeEntityRemoved(net.minecraft.entity.Entity entity) {
         this.onEntityRemoved(entity);
     }
 
+    @Inject(method = "onEntityAdded", at = @At("RETURN"))
+    private void onCountEntityAdded(net.minecraft.entity.Entity entityIn, CallbackInfo ci) {
+        CreatureCounts.onWorldAdd(this.creatureCounts, entityIn);
+    }
+
+    @Inject(method = "onEntityRemoved", at = @At("RETURN"))
+    private void onCountEntityRemoved(net.minecraft.entity.Entity entityIn, CallbackInfo ci) {
+        CreatureCounts.onWorldRemove(this.creatureCounts, entityIn);
+    }
+
     @Override
     public boolean spawnEntity(Entity entity) {
         checkNotNull(entity, "The entity cannot be null!");
@@ -2205,6 +2215,11 @@ public WorldTimingsHandler getTimingsHandler() {
         return this.timings;
     }
 
+    @Override
+    public CreatureCounts getCreatureCounts() {
+        return this.creatureCounts;
+    }
+
     /**************************** EFFECT ****************************************/
 
     @Override
@@ -2289,19 +2304,7 @@ public void spawnParticles(ParticleEffect particleEffect, Vector3d position, int
         checkNotNull(position, "The position cannot be null");
         checkArgument(radius > 0, "The radius has to be greater then zero!");
 
-        List<Packet<?>> packets = SpongeParticleHelper.toPackets((SpongeParticleEffect) particleEffect, position);
-
-        if (!packets.isEmpty()) {
-            PlayerList playerList = this.mcServer.getPlayerList();
-
-            double x = position.getX();
-            double y = position.getY();
-            double z = position.getZ();
-
-            for (Packet<?> packet : packets) {
-                playerList.sendToAllNearExcept(null, x, y, z, radius, this.getDimensionId(), packet);
-            }
-        }
+        SpongeParticleHelper.sendToNearbyPlayers((SpongeParticleEffect) particleEffect, position, radius, this.playerEntities);
     }
 
     @Override
@@ -25,16 +25,22 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import net.minecraft.world.storage.ThreadedFileIOBase;
 import org.apache.logging.log4j.Logger;
@@ -61,6 +67,7 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.interfaces.IMixinChunk;
@@ -70,10 +77,12 @@
 
 import java.io.File;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.BitSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import javax.annotation.Nullable;
+
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
@@ -96,34 +105,37 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         IMixinChunk chunk = (IMixinChunk) chunkIn;
 
-        // Add tracked block positions
-        if (chunk.getTrackedShortPlayerPositions().size() > 0 || chunk.getTrackedIntPlayerPositions().size() > 0) {
+        // Add tracked block positions, one int array of positions and one of interleaved owner/notifier indices
+        final Short2LongMap shortPositions = chunk.getTrackedShortPlayerPositions();
+        final Int2LongMap intPositions = chunk.getTrackedIntPlayerPositions();
+        if (shortPositions.size() > 0 || intPositions.size() > 0) {
             NBTTagCompound trackedNbt = new NBTTagCompound();
-            NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
+            trackedNbt.setInteger(NbtDataUtil.DATA_VERSION, DataUtil.DATA_VERSION);
             compound.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
 
-            for (Map.Entry<Short, PlayerTracker> mapEntry : chunk.getTrackedShortPlayerPositions().entrySet()) {
-                Short pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
+            final int[] shortKeys = new int[shortPositions.size()];
+            final int[] shortIndices = new int[shortKeys.length * 2];
+            int i = 0;
+            for (Short2LongMap.Entry entry : shortPositions.short2LongEntrySet()) {
+                shortKeys[i] = entry.getShortKey();
+                shortIndices[i * 2] = PlayerTracker.getOwnerIndex(entry.getLongValue());
+                shortIndices[i * 2 + 1] = PlayerTracker.getNotifierIndex(entry.getLongValue());
+                i++;
             }
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_SHORT_POSITIONS, shortKeys);
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_SHORT_INDICES, shortIndices);
 
-            for (Map.Entry<Integer, PlayerTracker> mapEntry : chunk.getTrackedIntPlayerPositions().entrySet()) {
-                Integer pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
+            final int[] intKeys = new int[intPositions.size()];
+            final int[] intIndices = new int[intKeys.length * 2];
+            i = 0;
+            for (Int2LongMap.Entry entry : intPositions.int2LongEntrySet()) {
+                intKeys[i] = entry.getIntKey();
+                intIndices[i * 2] = PlayerTracker.getOwnerIndex(entry.getLongValue());
+                intIndices[i * 2 + 1] = PlayerTracker.getNotifierIndex(entry.getLongValue());
+                i++;
             }
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_INT_POSITIONS, intKeys);
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_INT_INDICES, intIndices);
         }
     }
 
@@ -131,31 +143,30 @@ public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World wor
     private void onReadChunkFromNBT(World worldIn, NBTTagCompound compound, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, int chunkX,
       int chunkZ, net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
-            final Map<Integer, PlayerTracker> trackedIntPlayerPositions = new HashMap<>();
-            final Map<Short, PlayerTracker> trackedShortPlayerPositions = new HashMap<>();
-            final NBTTagList positions = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA).getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
+            // Chunks saved before the columnar layout still carry the per position compound table
+            final NBTTagCompound spongeData = DataUtil.spongeDataFixer.process(FixTypes.CHUNK, compound.getCompoundTag(NbtDataUtil.SPONGE_DATA));
             final IMixinChunk chunk = (IMixinChunk) chunkIn;
-            for (int i = 0; i < positions.tagCount(); i++) {
-                NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
-                boolean isShortPos = valueNbt.hasKey("pos");
-                PlayerTracker tracker = new PlayerTracker();
-                if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
-                } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
-                }
-                if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
+
+            final int[] shortKeys = spongeData.getIntArray(NbtDataUtil.SPONGE_TRACKED_SHORT_POSITIONS);
+            final int[] shortIndices = spongeData.getIntArray(NbtDataUtil.SPONGE_TRACKED_SHORT_INDICES);
+            final Short2LongMap trackedShortPlayerPositions = new Short2LongOpenHashMap(shortKeys.length);
+            for (int i = 0; i < shortKeys.length && i * 2 + 1 < shortIndices.length; i++) {
+                final long tracker = PlayerTracker.pack(shortIndices[i * 2], shortIndices[i * 2 + 1]);
+                if (tracker != PlayerTracker.NONE) {
+                    trackedShortPlayerPositions.put((short) shortKeys[i], tracker);
                 }
+            }
 
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
-                    }
+            final int[] intKeys = spongeData.getIntArray(NbtDataUtil.SPONGE_TRACKED_INT_POSITIONS);
+            final int[] intIndices = spongeData.getIntArray(NbtDataUtil.SPONGE_TRACKED_INT_INDICES);
+            final Int2LongMap trackedIntPlayerPositions = new Int2LongOpenHashMap(intKeys.length);
+            for (int i = 0; i < intKeys.length && i * 2 + 1 < intIndices.length; i++) {
+                final long tracker = PlayerTracker.pack(intIndices[i * 2], intIndices[i * 2 + 1]);
+                if (tracker != PlayerTracker.NONE) {
+                    trackedIntPlayerPositions.put(intKeys[i], tracker);
                 }
             }
+
             chunk.setTrackedIntPlayerPositions(trackedIntPlayerPositions);
             chunk.setTrackedShortPlayerPositions(trackedShortPlayerPositions);
         }
@@ -216,7 +227,41 @@ private static Entity onReadChunkEntity(NBTTagCompound compound, World world, Ch
         }
         // Sponge end
 
-        return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
+        // Sponge start - Only read the region header, and don't create missing region files
+        // return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
+        final RegionFile regionFile = this.getExistingRegionFile(x >> 5, z >> 5);
+        return regionFile != null && regionFile.isChunkSaved(x & 31, z & 31);
+        // Sponge end
+    }
+
+    @Override
+    public BitSet getExistingChunksInRegion(int regionX, int regionZ) {
+        final BitSet existing = new BitSet(32 * 32);
+        final RegionFile regionFile = this.getExistingRegionFile(regionX, regionZ);
+        if (regionFile != null) {
+            for (int z = 0; z < 32; z++) {
+                for (int x = 0; x < 32; x++) {
+                    if (regionFile.isChunkSaved(x, z)) {
+                        existing.set(z << 5 | x);
+                    }
+                }
+            }
+        }
+        for (ChunkPos pos : this.chunksToSave.keySet()) {
+            if (pos.x >> 5 == regionX && pos.z >> 5 == regionZ) {
+                existing.set((pos.z & 31) << 5 | (pos.x & 31));
+            }
+        }
+        return existing;
+    }
+
+    @Nullable
+    private RegionFile getExistingRegionFile(int regionX, int regionZ) {
+        final File file = new File(new File(this.chunkSaveLocation, "region"), "r." + regionX + "." + regionZ + ".mca");
+        if (!file.exists()) {
+            return null;
+        }
+        return RegionFileCache.createOrLoadRegionFile(this.chunkSaveLocation, regionX << 5, regionZ << 5);
     }
 
     /**
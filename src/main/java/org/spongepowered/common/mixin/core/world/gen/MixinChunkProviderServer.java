@@ -66,11 +66,14 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkUnloadQueue;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -82,6 +85,9 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     private boolean forceChunkRequests = false;
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
+    private final ChunkUnloadQueue unloadQueue = new ChunkUnloadQueue();
+    // Chunks that can't be unloaded right now but should be checked again next tick
+    private final List<Chunk> deferredUnloads = new ArrayList<>();
 
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -151,6 +157,11 @@ public void queueUnload(Chunk chunkIn)
             // Sponge - we avoid using the queue and simply check the unloaded flag during unloads
             //this.droppedChunksSet.add(Long.valueOf(ChunkPos.asLong(chunkIn.x, chunkIn.z)));
             chunkIn.unloadQueued = true;
+            // Sponge start - keep track of queued chunks so tick doesn't have to scan every loaded chunk
+            final long scheduledForUnload = ((IMixinChunk) chunkIn).getScheduledForUnload();
+            this.unloadQueue.add(chunkIn, this.chunkUnloadDelay > 0 && scheduledForUnload >= 0
+                    ? scheduledForUnload + this.chunkUnloadDelay : System.currentTimeMillis());
+            // Sponge end
         }
     }
 
@@ -269,8 +280,8 @@ public long getChunkUnloadDelay() {
     /**
      * @author blood - October 20th, 2016
      * @reason Refactors entire method to not use the droppedChunksSet by
-     * simply looping through all loaded chunks and determining whether it
-     * can unload or not.
+     * polling the chunks queued for unload whose unload delay has expired
+     * and determining whether it can unload or not.
      *
      * @return true if unload queue was processed
      */
@@ -280,29 +291,45 @@ public boolean tick()
         if (!this.world.disableLevelSaving && !((IMixinWorld) this.world).isFake())
         {
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.startTiming();
-            Iterator<Chunk> iterator = this.id2ChunkMap.values().iterator();
             int chunksUnloaded = 0;
             long now = System.currentTimeMillis();
-            while (chunksUnloaded < this.maxChunkUnloads && iterator.hasNext()) {
-                Chunk chunk = iterator.next();
+            Chunk chunk;
+            while (chunksUnloaded < this.maxChunkUnloads && (chunk = this.unloadQueue.poll(now)) != null) {
                 IMixinChunk spongeChunk = (IMixinChunk) chunk;
-                if (chunk != null && chunk.unloadQueued && !spongeChunk.isPersistedChunk()) {
-                    if (this.getChunkUnloadDelay() > 0) {
-                        if ((now - spongeChunk.getScheduledForUnload()) < this.chunkUnloadDelay) {
-                            continue;
-                        }
-                        spongeChunk.setScheduledForUnload(-1);
+                final long chunkKey = ChunkPos.asLong(chunk.x, chunk.z);
+                // The chunk was marked active again or was already removed
+                if (!chunk.unloadQueued || this.id2ChunkMap.get(chunkKey) != chunk) {
+                    continue;
+                }
+                if (spongeChunk.isPersistedChunk()) {
+                    this.deferredUnloads.add(chunk);
+                    continue;
+                }
+                if (this.getChunkUnloadDelay() > 0) {
+                    final long scheduledForUnload = spongeChunk.getScheduledForUnload();
+                    if ((now - scheduledForUnload) < this.chunkUnloadDelay) {
+                        // The chunk was scheduled again after it was queued
+                        this.unloadQueue.add(chunk, scheduledForUnload + this.chunkUnloadDelay);
+                        continue;
                     }
-                    chunk.onUnload();
-                    this.saveChunkData(chunk);
-                    this.saveChunkExtraData(chunk);
-                    iterator.remove();
-                    chunksUnloaded++;
+                    spongeChunk.setScheduledForUnload(-1);
                 }
+                chunk.onUnload();
+                this.saveChunkData(chunk);
+                this.saveChunkExtraData(chunk);
+                this.id2ChunkMap.remove(chunkKey);
+                chunksUnloaded++;
             }
+            for (Chunk deferred : this.deferredUnloads) {
+                this.unloadQueue.add(deferred, now);
+            }
+            this.deferredUnloads.clear();
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.stopTiming();
         }
 
+        if (this.chunkGenerator instanceof SpongeChunkGenerator) {
+            ((SpongeChunkGenerator) this.chunkGenerator).updatePrefetchedChunks();
+        }
         this.chunkLoader.chunkTick();
         return false;
     }
@@ -24,8 +24,10 @@
  */
 package org.spongepowered.common.mixin.entityactivation;
 
+import co.aikar.timings.Timing;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
 
@@ -34,7 +36,10 @@ public abstract class MixinWorldServer_Activation extends MixinWorld {
 
     @Override
     public void entityActivationCheck() {
+        final Timing timing = ((IMixinWorldServer) this).getTimingsHandler().entityActivation;
+        timing.startTiming();
         EntityActivationRange.activateEntities(((net.minecraft.world.World) (Object) this));
+        timing.stopTiming();
     }
 
 }
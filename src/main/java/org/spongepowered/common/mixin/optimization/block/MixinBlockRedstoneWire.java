@@ -24,8 +24,10 @@
  */
 package org.spongepowered.common.mixin.optimization.block;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongListIterator;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockObserver;
 import net.minecraft.block.BlockPistonBase;
@@ -50,8 +52,9 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.util.PackedBlockPos;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -64,19 +67,33 @@ protected MixinBlockRedstoneWire(Material materialIn) {
         super(materialIn);
     }
 
+    /*
+     * All positions below are packed with BlockPos#toLong. The linked sets act as
+     * insertion ordered queues that ignore positions which are already queued.
+     */
     /** Positions that need to be turned off **/
-    private List<BlockPos> turnOff = Lists.newArrayList();
+    private final LongLinkedOpenHashSet turnOff = new LongLinkedOpenHashSet();
     /** Positions that need to be checked to be turned on **/
-    private List<BlockPos> turnOn = Lists.newArrayList();
+    private final LongLinkedOpenHashSet turnOn = new LongLinkedOpenHashSet();
     /** Positions of wire that was updated already (Ordering determines update order and is therefore required!) **/
-    private final Set<BlockPos> updatedRedstoneWire = Sets.newLinkedHashSet();
-     
+    private final LongLinkedOpenHashSet updatedRedstoneWire = new LongLinkedOpenHashSet();
+    /** Sets collecting the blocks needing updates, one per nested updateSurroundingRedstone call **/
+    private final List<LongLinkedOpenHashSet> blocksNeedingUpdatePool = new ArrayList<>();
+    private int updateDepth;
+    /** Scratch positions, only used for block state lookups **/
+    private final BlockPos.MutableBlockPos wirePos = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos offsetPos = new BlockPos.MutableBlockPos();
+
     /** Ordered arrays of the facings; Needed for the update order.
      *  I went with a vertical-first order here, but vertical last would work to.
      *  However it should be avoided to update the vertical axis between the horizontal ones as this would cause unneeded directional behavior. **/
     private static final EnumFacing[] facingsHorizontal = {EnumFacing.WEST, EnumFacing.EAST, EnumFacing.NORTH, EnumFacing.SOUTH};
     private static final EnumFacing[] facingsVertical = {EnumFacing.DOWN, EnumFacing.UP};
     private static final EnumFacing[] facings = ArrayUtils.addAll(facingsVertical, facingsHorizontal);
+    private static final int NORTH_SOUTH_SIDES = 1 << EnumFacing.NORTH.getIndex() | 1 << EnumFacing.SOUTH.getIndex();
+    private static final int EAST_WEST_SIDES = 1 << EnumFacing.EAST.getIndex() | 1 << EnumFacing.WEST.getIndex();
+    private static final int HORIZONTAL_SIDES = NORTH_SOUTH_SIDES | EAST_WEST_SIDES;
 
     /** Offsets for all surrounding blocks that need to receive updates **/
     private static final Vec3i[] surroundingBlocksOffset;
@@ -130,30 +147,41 @@ private void updateSurroundingRedstone(World worldIn, BlockPos pos) {
         this.calculateCurrentChanges(worldIn, pos);
 
         // Set to collect all the updates, to only execute them once. Ordering required.
-        Set<BlockPos> blocksNeedingUpdate = Sets.newLinkedHashSet();
-
-        // Add the needed updates
-        for (BlockPos posi : this.updatedRedstoneWire) {
-            this.addBlocksNeedingUpdate(worldIn, posi, blocksNeedingUpdate);
+        if (this.updateDepth == this.blocksNeedingUpdatePool.size()) {
+            this.blocksNeedingUpdatePool.add(new LongLinkedOpenHashSet());
         }
-        // Add all other updates to keep known behaviors
-        // They are added in a backwards order because it preserves a commonly used behavior with the update order
-        Iterator<BlockPos> it = Lists.newLinkedList(this.updatedRedstoneWire).descendingIterator();
-        while (it.hasNext()) {
-            this.addAllSurroundingBlocks(it.next(), blocksNeedingUpdate);
-        }
-        // Remove updates on the wires as they just were updated
-        blocksNeedingUpdate.removeAll(this.updatedRedstoneWire);
-        /*
-         * Avoid unnecessary updates on the just updated wires A huge scale test
-         * showed about 40% more ticks per second It's probably less in normal
-         * usage but likely still worth it
-         */
-        this.updatedRedstoneWire.clear();
-
-        // Execute updates
-        for (BlockPos posi : blocksNeedingUpdate) {
-            worldIn.notifyNeighborsOfStateChange(posi, (BlockRedstoneWire) (Object) this, false);
+        final LongLinkedOpenHashSet blocksNeedingUpdate = this.blocksNeedingUpdatePool.get(this.updateDepth++);
+        try {
+            // Add the needed updates
+            for (LongIterator it = this.updatedRedstoneWire.iterator(); it.hasNext(); ) {
+                this.addBlocksNeedingUpdate(worldIn, it.nextLong(), blocksNeedingUpdate);
+            }
+            // Add all other updates to keep known behaviors
+            // They are added in a backwards order because it preserves a commonly used behavior with the update order
+            if (!this.updatedRedstoneWire.isEmpty()) {
+                final LongListIterator it = this.updatedRedstoneWire.iterator(this.updatedRedstoneWire.lastLong());
+                while (it.hasPrevious()) {
+                    this.addAllSurroundingBlocks(it.previousLong(), blocksNeedingUpdate);
+                }
+            }
+            // Remove updates on the wires as they just were updated
+            for (LongIterator it = this.updatedRedstoneWire.iterator(); it.hasNext(); ) {
+                blocksNeedingUpdate.remove(it.nextLong());
+            }
+            /*
+             * Avoid unnecessary updates on the just updated wires A huge scale test
+             * showed about 40% more ticks per second It's probably less in normal
+             * usage but likely still worth it
+             */
+            this.updatedRedstoneWire.clear();
+
+            // Execute updates
+            for (LongIterator it = blocksNeedingUpdate.iterator(); it.hasNext(); ) {
+                worldIn.notifyNeighborsOfStateChange(BlockPos.fromLong(it.nextLong()), (BlockRedstoneWire) (Object) this, false);
+            }
+        } finally {
+            blocksNeedingUpdate.clear();
+            this.updateDepth--;
         }
     }
 
@@ -166,14 +194,15 @@ private void updateSurroundingRedstone(World worldIn, BlockPos pos) {
     private void calculateCurrentChanges(World worldIn, BlockPos position) {
         // Turn off all connected wires first if needed
         if (worldIn.getBlockState(position).getBlock() == this) {
-            turnOff.add(position);
+            this.turnOff.add(position.toLong());
         } else {
             // In case this wire was removed, check the surrounding wires
-            this.checkSurroundingWires(worldIn, position);
+            this.checkSurroundingWires(worldIn, position.toLong());
         }
 
-        while (!turnOff.isEmpty()) {
-            BlockPos pos = turnOff.remove(0);
+        while (!this.turnOff.isEmpty()) {
+            final long packedPos = this.turnOff.removeFirstLong();
+            BlockPos pos = BlockPos.fromLong(packedPos);
             IBlockState state = worldIn.getBlockState(pos);
             int oldPower = state.getValue(BlockRedstoneWire.POWER);
             this.canProvidePower = false;
@@ -187,8 +216,8 @@ private void calculateCurrentChanges(World worldIn, BlockPos position) {
             // Power lowered?
             if (newPower < oldPower) {
                 // If it's still powered by a direct source (but weaker) mark for turn on
-                if (blockPower > 0 && !this.turnOn.contains(pos)) {
-                    this.turnOn.add(pos);
+                if (blockPower > 0) {
+                    this.turnOn.add(packedPos);
                 }
                 // Set all the way to off for now, because wires that were powered by this need to update first
                 setWireState(worldIn, pos, state, 0);
@@ -198,11 +227,12 @@ private void calculateCurrentChanges(World worldIn, BlockPos position) {
                 this.setWireState(worldIn, pos, state, newPower);
             }
             // Check if surrounding wires need to change based on the current/new state and add them to the lists
-            this.checkSurroundingWires(worldIn, pos);
+            this.checkSurroundingWires(worldIn, packedPos);
         }
         // Now all needed wires are turned off. Time to turn them on again if there is a power source.
         while (!this.turnOn.isEmpty()) {
-            BlockPos pos = this.turnOn.remove(0);
+            final long packedPos = this.turnOn.removeFirstLong();
+            BlockPos pos = BlockPos.fromLong(packedPos);
             IBlockState state = worldIn.getBlockState(pos);
             int oldPower = state.getValue(BlockRedstoneWire.POWER);
             this.canProvidePower = false;
@@ -219,7 +249,7 @@ private void calculateCurrentChanges(World worldIn, BlockPos position) {
                 // Add warning
             }
             // Check if surrounding wires need to change based on the current/new state and add them to the lists
-            this.checkSurroundingWires(worldIn, pos);
+            this.checkSurroundingWires(worldIn, packedPos);
         }
         this.turnOff.clear();
         this.turnOn.clear();
@@ -234,17 +264,17 @@ private void calculateCurrentChanges(World worldIn, BlockPos position) {
      * @param pos Position of the wire that might need to change
      * @param otherPower Power of the wire next to it
      */
-    private void addWireToList(World worldIn, BlockPos pos, int otherPower) {
-        IBlockState state = worldIn.getBlockState(pos);
+    private void addWireToList(World worldIn, long pos, int otherPower) {
+        IBlockState state = worldIn.getBlockState(setPos(this.neighborPos, pos));
         if (state.getBlock() == this) {
             int power = state.getValue(BlockRedstoneWire.POWER);
             // Could get powered stronger by the neighbor?
-            if (power < (otherPower - 1) && !this.turnOn.contains(pos)) {
+            if (power < (otherPower - 1)) {
                 // Mark for turn on check.
                 this.turnOn.add(pos);
             }
             // Should have powered the neighbor? Probably was powered by it and is in turn off phase.
-            if (power > otherPower && !this.turnOff.contains(pos)) {
+            if (power > otherPower) {
                 // Mark for turn off check.
                 this.turnOff.add(pos);
             }
@@ -261,27 +291,28 @@ private void addWireToList(World worldIn, BlockPos pos, int otherPower) {
      * @param worldIn World
      * @param pos Position of the wire
      */
-    private void checkSurroundingWires(World worldIn, BlockPos pos) {
-        IBlockState state = worldIn.getBlockState(pos);
+    private void checkSurroundingWires(World worldIn, long pos) {
+        IBlockState state = worldIn.getBlockState(setPos(this.wirePos, pos));
         int ownPower = 0;
         if (state.getBlock() == this) {
             ownPower = state.getValue(BlockRedstoneWire.POWER);
         }
         // Check wires on the same layer first as they appear closer to the wire
         for (EnumFacing facing : facingsHorizontal) {
-            BlockPos offsetPos = pos.offset(facing);
+            long offsetPos = offset(pos, facing);
             if (facing.getAxis().isHorizontal()) {
                 this.addWireToList(worldIn, offsetPos, ownPower);
             }
         }
         for (EnumFacing facingVertical : facingsVertical) {
-            BlockPos offsetPos = pos.offset(facingVertical);
-            boolean solidBlock = worldIn.getBlockState(offsetPos).isBlockNormalCube();
+            long offsetPos = offset(pos, facingVertical);
+            boolean solidBlock = worldIn.getBlockState(setPos(this.wirePos, offsetPos)).isBlockNormalCube();
             for (EnumFacing facingHorizontal : facingsHorizontal) {
                 // wire can travel upwards if the block on top doesn't cut the wire (is non-solid)
                 // it can travel down if the block below is solid and the block "diagonal" doesn't cut off the wire (is non-solid) 
-                if ((facingVertical == EnumFacing.UP && !solidBlock) || (facingVertical == EnumFacing.DOWN && solidBlock && !worldIn.getBlockState(offsetPos.offset(facingHorizontal)).isBlockNormalCube())) {
-                    this.addWireToList(worldIn, offsetPos.offset(facingHorizontal), ownPower);
+                if ((facingVertical == EnumFacing.UP && !solidBlock) || (facingVertical == EnumFacing.DOWN && solidBlock
+                        && !worldIn.getBlockState(setPos(this.wirePos, offset(offsetPos, facingHorizontal))).isBlockNormalCube())) {
+                    this.addWireToList(worldIn, offset(offsetPos, facingHorizontal), ownPower);
                 }
             }
         }
@@ -298,17 +329,19 @@ private void checkSurroundingWires(World worldIn, BlockPos pos) {
      */
     private int getSurroundingWirePower(World worldIn, BlockPos pos) {
         int wirePower = 0;
+        final BlockPos.MutableBlockPos offsetPos = this.offsetPos;
+        final BlockPos.MutableBlockPos neighborPos = this.neighborPos;
         for (EnumFacing enumfacing : EnumFacing.Plane.HORIZONTAL) {
-            BlockPos offsetPos = pos.offset(enumfacing);
+            offsetPos.setPos(pos).move(enumfacing);
             // Wires on the same layer
             wirePower = this.getMaxCurrentStrength(worldIn, offsetPos, wirePower);
             
             // Block below the wire need to be solid (Upwards diode of slabs/stairs/glowstone) and no block should cut the wire
-            if(worldIn.getBlockState(offsetPos).isNormalCube() && !worldIn.getBlockState(pos.up()).isNormalCube()) {
-                wirePower = this.getMaxCurrentStrength(worldIn, offsetPos.up(), wirePower);
+            if(worldIn.getBlockState(offsetPos).isNormalCube() && !worldIn.getBlockState(neighborPos.setPos(pos).move(EnumFacing.UP)).isNormalCube()) {
+                wirePower = this.getMaxCurrentStrength(worldIn, neighborPos.setPos(offsetPos).move(EnumFacing.UP), wirePower);
                 // Only get from power below if no block is cutting the wire
             } else if (!worldIn.getBlockState(offsetPos).isNormalCube()) {
-                wirePower = this.getMaxCurrentStrength(worldIn, offsetPos.down(), wirePower);
+                wirePower = this.getMaxCurrentStrength(worldIn, neighborPos.setPos(offsetPos).move(EnumFacing.DOWN), wirePower);
             }
         }
         return wirePower;
@@ -324,27 +357,30 @@ private int getSurroundingWirePower(World worldIn, BlockPos pos) {
      * @param pos Position of the wire
      * @param set Set to add the update positions too
      */
-    private void addBlocksNeedingUpdate(World worldIn, BlockPos pos, Set<BlockPos> set) {
-        List<EnumFacing> connectedSides = this.getSidesToPower(worldIn, pos);
+    private void addBlocksNeedingUpdate(World worldIn, long packedPos, LongLinkedOpenHashSet set) {
+        final BlockPos pos = BlockPos.fromLong(packedPos);
+        final int connectedSides = this.getSidesToPower(worldIn, pos);
         // Add the blocks next to the wire first (closest first order)
         for (EnumFacing facing : facings) {
-            BlockPos offsetPos = pos.offset(facing);
+            long offsetPos = offset(packedPos, facing);
+            IBlockState offsetState = worldIn.getBlockState(setPos(this.offsetPos, offsetPos));
             // canConnectTo() is not the nicest solution here as it returns true for e.g. the front of a repeater
             // canBlockBePowereFromSide catches these cases
-            if (connectedSides.contains(facing.getOpposite()) || facing == EnumFacing.DOWN
-                    || (facing.getAxis().isHorizontal() && canConnectToBlock(worldIn.getBlockState(offsetPos), facing, worldIn, pos))) {
-                if (this.canBlockBePoweredFromSide(worldIn.getBlockState(offsetPos), facing, true))
+            if (isSide(connectedSides, facing.getOpposite()) || facing == EnumFacing.DOWN
+                    || (facing.getAxis().isHorizontal() && canConnectToBlock(offsetState, facing, worldIn, pos))) {
+                if (this.canBlockBePoweredFromSide(offsetState, facing, true))
                     set.add(offsetPos);
             }
         }
         // Later add blocks around the surrounding blocks that get powered
         for (EnumFacing facing : facings) {
-            BlockPos offsetPos = pos.offset(facing);
-            if (connectedSides.contains(facing.getOpposite()) || facing == EnumFacing.DOWN) {
-                if (worldIn.getBlockState(offsetPos).isNormalCube()) {
+            long offsetPos = offset(packedPos, facing);
+            if (isSide(connectedSides, facing.getOpposite()) || facing == EnumFacing.DOWN) {
+                if (worldIn.getBlockState(setPos(this.offsetPos, offsetPos)).isNormalCube()) {
                     for (EnumFacing facing1 : facings) {
-                        if (this.canBlockBePoweredFromSide(worldIn.getBlockState(offsetPos.offset(facing1)), facing1, false))
-                            set.add(offsetPos.offset(facing1));
+                        long neighborPos = offset(offsetPos, facing1);
+                        if (this.canBlockBePoweredFromSide(worldIn.getBlockState(setPos(this.neighborPos, neighborPos)), facing1, false))
+                            set.add(neighborPos);
                     }
                 }
             }
@@ -392,34 +428,36 @@ private boolean canBlockBePoweredFromSide(IBlockState state, EnumFacing side, bo
     }
 
     /**
-     * Creates a list of all horizontal sides that can get powered by a wire.
-     * The list is ordered the same as the facingsHorizontal.
+     * Creates a bit set of all horizontal sides that can get powered by a wire,
+     * with one bit per {@link EnumFacing#getIndex()}.
      * 
      * @param worldIn World
      * @param pos Position of the wire
-     * @return List of all facings that can get powered by this wire
+     * @return Bit set of all facings that can get powered by this wire
      */
-    private List<EnumFacing> getSidesToPower(World worldIn, BlockPos pos) {
-        List<EnumFacing> retval = Lists.newArrayList();
+    private int getSidesToPower(World worldIn, BlockPos pos) {
+        int retval = 0;
         for (EnumFacing facing : facingsHorizontal) {
             if (isPowerSourceAt(worldIn, pos, facing))
-                retval.add(facing);
+                retval |= 1 << facing.getIndex();
         }
-        if (retval.isEmpty())
-            return Lists.newArrayList(facingsHorizontal);
-        boolean northsouth = retval.contains(EnumFacing.NORTH) || retval.contains(EnumFacing.SOUTH);
-        boolean eastwest = retval.contains(EnumFacing.EAST) || retval.contains(EnumFacing.WEST);
+        if (retval == 0)
+            return HORIZONTAL_SIDES;
+        boolean northsouth = (retval & NORTH_SOUTH_SIDES) != 0;
+        boolean eastwest = (retval & EAST_WEST_SIDES) != 0;
         if (northsouth) {
-            retval.remove(EnumFacing.EAST);
-            retval.remove(EnumFacing.WEST);
+            retval &= ~EAST_WEST_SIDES;
         }
         if (eastwest) {
-            retval.remove(EnumFacing.NORTH);
-            retval.remove(EnumFacing.SOUTH);
+            retval &= ~NORTH_SOUTH_SIDES;
         }
         return retval;
     }
 
+    private static boolean isSide(int sides, EnumFacing facing) {
+        return (sides & (1 << facing.getIndex())) != 0;
+    }
+
     /**
      * Adds all surrounding positions to a set.
      * This is the neighbor blocks, as well as their neighbors 
@@ -427,12 +465,24 @@ private List<EnumFacing> getSidesToPower(World worldIn, BlockPos pos) {
      * @param pos
      * @param set
      */
-    private void addAllSurroundingBlocks(BlockPos pos, Set<BlockPos> set) {
+    private void addAllSurroundingBlocks(long pos, LongLinkedOpenHashSet set) {
         for (Vec3i vect : surroundingBlocksOffset) {
-            set.add(pos.add(vect));
+            set.add(offset(pos, vect.getX(), vect.getY(), vect.getZ()));
         }
     }
 
+    private static long offset(long pos, EnumFacing facing) {
+        return offset(pos, facing.getFrontOffsetX(), facing.getFrontOffsetY(), facing.getFrontOffsetZ());
+    }
+
+    private static long offset(long pos, int x, int y, int z) {
+        return PackedBlockPos.offset(pos, x, y, z);
+    }
+
+    private static BlockPos setPos(BlockPos.MutableBlockPos target, long pos) {
+        return PackedBlockPos.setPos(target, pos);
+    }
+
     /**
      * Sets the block state of a wire with a new power level and marks for updates
      * 
@@ -446,7 +496,7 @@ private void addAllSurroundingBlocks(BlockPos pos, Set<BlockPos> set) {
     private void setWireState(World worldIn, BlockPos pos, IBlockState state, int power) {
         state = state.withProperty(BlockRedstoneWire.POWER, power);
         worldIn.setBlockState(pos, state, 2);
-        updatedRedstoneWire.add(pos);
+        this.updatedRedstoneWire.add(pos.toLong());
     }
 
     /**
@@ -503,7 +553,7 @@ public int getWeakPower(IBlockState blockState, IBlockAccess blockAccess, BlockP
         if (!this.canProvidePower) {
             return 0;
         } else {
-            if (side == EnumFacing.UP || this.getSidesToPower((World) blockAccess, pos).contains(side)) {
+            if (side == EnumFacing.UP || isSide(this.getSidesToPower((World) blockAccess, pos), side)) {
                 return blockState.getValue(BlockRedstoneWire.POWER);
             } else {
                 return 0;
@@ -35,14 +35,58 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.block.BlockStateTransitionLayout;
+import org.spongepowered.common.interfaces.block.IMixinStateImplementation;
+
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 @Mixin(BlockStateContainer.StateImplementation.class)
-public abstract class MixinStateImplementation extends BlockStateBase {
+public abstract class MixinStateImplementation extends BlockStateBase implements IMixinStateImplementation {
 
     @Shadow @Final private Block block;
     @Shadow @Final private ImmutableMap<IProperty<?>, Comparable<?>> properties;
     @Shadow private ImmutableTable<IProperty<?>, Comparable<?>, IBlockState> propertyValueTable;
 
+    // The neighbouring states of this state, laid out by the layout shared
+    // between all states of the block.
+    @Nullable private BlockStateTransitionLayout transitionLayout;
+    @Nullable private IBlockState[] transitionTable;
+
+    @Inject(method = "buildPropertyValueTable", at = @At("RETURN"))
+    private void onBuildPropertyValueTable(Map<Map<IProperty<?>, Comparable<?>>, BlockStateContainer.StateImplementation> map, CallbackInfo ci) {
+        // The container builds the tables in the order of the map, the first
+        // state already holds the layout when the other states get here.
+        final BlockStateContainer.StateImplementation first = map.values().iterator().next();
+        BlockStateTransitionLayout layout = first == (Object) this ? null : ((IMixinStateImplementation) first).getTransitionLayout();
+        if (layout == null) {
+            layout = new BlockStateTransitionLayout(this.properties.keySet());
+        }
+
+        final IBlockState[] transitionTable = new IBlockState[layout.size()];
+        for (int i = 0; i < layout.getPropertyCount(); i++) {
+            final IProperty<?> property = layout.getProperty(i);
+            final Comparable<?> current = this.properties.get(property);
+            final Object[] values = layout.getValues(i);
+            for (int j = 0; j < values.length; j++) {
+                transitionTable[layout.getOffset(i) + j] = values[j].equals(current) ? this : this.propertyValueTable.get(property, values[j]);
+            }
+        }
+
+        this.transitionLayout = layout;
+        this.transitionTable = transitionTable;
+    }
+
+    @Nullable
+    @Override
+    public BlockStateTransitionLayout getTransitionLayout() {
+        return this.transitionLayout;
+    }
+
     /**
      * @author gabizou - April 8th, 2016
      *
@@ -58,6 +102,11 @@ public abstract class MixinStateImplementation extends BlockStateBase {
      *
      * <p>This is partially contributed code from Aikar in PaperSpigot.</p>
      *
+     * <p>Once the property value table is built, the neighbouring states are
+     * resolved through a flat array instead, by scanning the handful of
+     * properties and allowed values of this state, so no hashing is done at
+     * all.</p>
+     *
      * @param property The property to use
      * @param value The value keyed to the property
      * @param <T> The type of property
@@ -68,8 +117,16 @@ public abstract class MixinStateImplementation extends BlockStateBase {
     @Final
     @Override
     public <T extends Comparable<T>, V extends T> IBlockState withProperty(IProperty<T> property, V value) {
+        if (this.transitionTable != null) {
+            final int index = this.transitionLayout.indexOf(property, value);
+            final IBlockState blockState = index == -1 ? null : this.transitionTable[index];
+            if (blockState == null) {
+                throw new IllegalArgumentException("No mapping found for the blockstate: " + Block.REGISTRY.getNameForObject(this.block) + " of property: " + property.getName() + " and value: " + value);
+            }
+            return blockState;
+        }
         // Sponge - eliminate the hash lookups and validation lookups
-        if (this.properties.get(property) == value) {
+        if (value != null && value.equals(this.properties.get(property))) {
             return this;
         }
         final IBlockState blockState = this.propertyValueTable.get(property, value);
@@ -0,0 +1,122 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityTrackerEntry;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.entity.EntityTrackerBuckets;
+import org.spongepowered.common.entity.TrackingPlayerSet;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTracker;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTrackerEntry;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Mixin(EntityTrackerEntry.class)
+public abstract class MixinEntityTrackerEntry_Spatial_Hash implements IMixinEntityTrackerEntry {
+
+    @Shadow @Final public Entity trackedEntity;
+    @Shadow @Final public Set<EntityPlayerMP> trackingPlayers;
+    @Shadow @Final private int range;
+    @Shadow private int maxRange;
+    @Shadow private long encodedPosX;
+    @Shadow private long encodedPosZ;
+
+    @Shadow public abstract void updatePlayerEntity(EntityPlayerMP playerMP);
+
+    @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Lcom/google/common/collect/Sets;newHashSet()Ljava/util/HashSet;",
+            remap = false))
+    private HashSet<EntityPlayerMP> onCreateTrackingPlayers() {
+        return new TrackingPlayerSet((EntityTrackerEntry) (Object) this);
+    }
+
+    @Inject(method = "sendDestroyEntityPacketToTrackedPlayers", at = @At("RETURN"))
+    private void onUntracked(CallbackInfo ci) {
+        if (this.trackingPlayers instanceof TrackingPlayerSet) {
+            ((TrackingPlayerSet) this.trackingPlayers).detach();
+        }
+    }
+
+    @Override
+    public boolean isInTrackingRange(EntityPlayerMP player) {
+        final double x = player.posX - this.getTrackedPosX();
+        final double z = player.posZ - this.getTrackedPosZ();
+        final int range = this.getTrackingRange();
+        return x >= -range && x <= range && z >= -range && z <= range;
+    }
+
+    @Override
+    public int getTrackingRange() {
+        return Math.min(this.range, this.maxRange);
+    }
+
+    @Override
+    public double getTrackedPosX() {
+        return this.encodedPosX / 4096.0D;
+    }
+
+    @Override
+    public double getTrackedPosZ() {
+        return this.encodedPosZ / 4096.0D;
+    }
+
+    @Redirect(method = "updatePlayerList", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/entity/EntityTrackerEntry;updatePlayerEntities(Ljava/util/List;)V"))
+    private void onUpdatePlayerEntities(EntityTrackerEntry entry, List<EntityPlayer> players) {
+        final IMixinEntityTracker tracker = (IMixinEntityTracker) ((WorldServer) this.trackedEntity.world).getEntityTracker();
+        final EntityTrackerBuckets<EntityPlayerMP> buckets = tracker.getPlayerBuckets();
+        if (!buckets.isActive()) {
+            entry.updatePlayerEntities(players);
+            return;
+        }
+        // Players leaving the range can only be found through the players already tracking this entry,
+        // so snapshot them before the players around the entry are added.
+        final EntityPlayerMP[] tracking = this.trackingPlayers.isEmpty() ? null : this.trackingPlayers.toArray(new EntityPlayerMP[0]);
+        buckets.forEachCandidate(this.getTrackedPosX(), this.getTrackedPosZ(), this.getTrackingRange(), player -> {
+            this.updatePlayerEntity(player);
+            tracker.recordVisibilityUpdate();
+        });
+        if (tracking != null) {
+            for (EntityPlayerMP player : tracking) {
+                if (!this.isInTrackingRange(player)) {
+                    this.updatePlayerEntity(player);
+                    tracker.recordVisibilityUpdate();
+                }
+            }
+        }
+    }
+
+}
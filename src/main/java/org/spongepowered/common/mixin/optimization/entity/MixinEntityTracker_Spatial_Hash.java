@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityTracker;
+import net.minecraft.entity.EntityTrackerEntry;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.entity.EntityTrackerBuckets;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTracker;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTrackerEntry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Mixin(EntityTracker.class)
+public abstract class MixinEntityTracker_Spatial_Hash implements IMixinEntityTracker {
+
+    @Shadow @Final private WorldServer world;
+    @Shadow @Final private Set<EntityTrackerEntry> entries;
+
+    private final EntityTrackerBuckets<EntityPlayerMP> playerBuckets = new EntityTrackerBuckets<>();
+    private final EntityTrackerBuckets<EntityTrackerEntry> entryBuckets = new EntityTrackerBuckets<>();
+    // The entries each player is in the tracking players of, kept up to date by TrackingPlayerSet
+    private final Map<EntityPlayerMP, Set<EntityTrackerEntry>> trackedEntries = Maps.newHashMap();
+    private int visibilityUpdates;
+    private int lastTickEntryUpdates;
+    private int lastTickVisibilityUpdates;
+
+    @Override
+    public EntityTrackerBuckets<EntityPlayerMP> getPlayerBuckets() {
+        return this.playerBuckets;
+    }
+
+    @Override
+    public void recordVisibilityUpdate() {
+        this.visibilityUpdates++;
+    }
+
+    @Override
+    public void addTrackedEntry(EntityPlayerMP player, EntityTrackerEntry entry) {
+        this.trackedEntries.computeIfAbsent(player, key -> Sets.newHashSet()).add(entry);
+    }
+
+    @Override
+    public void removeTrackedEntry(EntityPlayerMP player, EntityTrackerEntry entry) {
+        final Set<EntityTrackerEntry> entries = this.trackedEntries.get(player);
+        if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+            this.trackedEntries.remove(player);
+        }
+    }
+
+    @Override
+    public int getLastTickEntryUpdates() {
+        return this.lastTickEntryUpdates;
+    }
+
+    @Override
+    public int getLastTickVisibilityUpdates() {
+        return this.lastTickVisibilityUpdates;
+    }
+
+    /**
+     * Replaces the tracker tick so that entries only check the players in the
+     * chunks around them, and players that moved are only checked against the
+     * entries in the chunks around them and the entries they already track.
+     * {@link EntityTrackerEntry#updatePlayerEntity(EntityPlayerMP)} does
+     * nothing for a player that is neither in range nor tracking the entry,
+     * so skipping those pairs does not change what is sent.
+     */
+    @Inject(method = "tick", at = @At("HEAD"), cancellable = true)
+    private void onTick(CallbackInfo ci) {
+        ci.cancel();
+        final List<EntityPlayerMP> movedPlayers = Lists.newArrayList();
+        int entryUpdates = 0;
+        this.visibilityUpdates = 0;
+        this.playerBuckets.start();
+        try {
+            for (EntityPlayer player : this.world.playerEntities) {
+                if (player instanceof EntityPlayerMP) {
+                    this.playerBuckets.add(player.posX, player.posZ, (EntityPlayerMP) player);
+                }
+            }
+            for (EntityTrackerEntry entry : this.entries) {
+                entry.updatePlayerList(this.world.playerEntities);
+                if (entry.playerEntitiesUpdated) {
+                    entryUpdates++;
+                    final Entity entity = entry.getTrackedEntity();
+                    if (entity instanceof EntityPlayerMP) {
+                        movedPlayers.add((EntityPlayerMP) entity);
+                    }
+                }
+            }
+        } finally {
+            this.playerBuckets.clear();
+        }
+
+        if (!movedPlayers.isEmpty()) {
+            this.updateMovedPlayers(movedPlayers);
+        }
+        this.lastTickEntryUpdates = entryUpdates;
+        this.lastTickVisibilityUpdates = this.visibilityUpdates;
+    }
+
+    private void updateMovedPlayers(List<EntityPlayerMP> movedPlayers) {
+        int maxRange = 0;
+        this.entryBuckets.start();
+        try {
+            for (EntityTrackerEntry entry : this.entries) {
+                final IMixinEntityTrackerEntry mixinEntry = (IMixinEntityTrackerEntry) entry;
+                this.entryBuckets.add(mixinEntry.getTrackedPosX(), mixinEntry.getTrackedPosZ(), entry);
+                maxRange = Math.max(maxRange, mixinEntry.getTrackingRange());
+            }
+            for (EntityPlayerMP player : movedPlayers) {
+                // Entries going out of range can only be found through the entries the player tracks,
+                // snapshot them as updating an entry changes the set.
+                final Set<EntityTrackerEntry> tracked = this.trackedEntries.get(player);
+                if (tracked != null) {
+                    for (EntityTrackerEntry entry : tracked.toArray(new EntityTrackerEntry[0])) {
+                        if (entry.getTrackedEntity() != player) {
+                            entry.updatePlayerEntity(player);
+                            this.visibilityUpdates++;
+                        }
+                    }
+                }
+                this.entryBuckets.forEachCandidate(player.posX, player.posZ, maxRange, entry -> {
+                    if (entry.getTrackedEntity() != player && !entry.trackingPlayers.contains(player)
+                            && ((IMixinEntityTrackerEntry) entry).isInTrackingRange(player)) {
+                        entry.updatePlayerEntity(player);
+                        this.visibilityUpdates++;
+                    }
+                });
+            }
+        } finally {
+            this.entryBuckets.clear();
+        }
+    }
+
+}
@@ -44,6 +44,7 @@
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
@@ -51,12 +52,13 @@
 public abstract class MixinWorldServer_Async_Lighting extends MixinWorld implements IMixinWorldServer {
 
     private static final int NUM_XZ_BITS = 4;
-    private static final int NUM_SHORT_Y_BITS = 8;
-    private static final short XZ_MASK = 0xF;
-    private static final short Y_SHORT_MASK = 0xFF;
+    private static final int XZ_MASK = 0xF;
+    private static final int Y_MASK = 0xFF;
 
     private ExecutorService lightExecutorService = 
                 Executors.newFixedThreadPool(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(), new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    // The amount of light updates currently queued across all chunks of this world
+    private AtomicInteger queuedLightingUpdateCount = new AtomicInteger();
 
     @Override
     public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
@@ -185,7 +187,9 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
             }
 
             // Sponge start - Asynchronous light updates
-            spongeChunk.getQueuedLightingUpdates(lightType).remove((Short) this.blockPosToShort(pos));
+            if (spongeChunk.getQueuedLightingUpdates(lightType).clear(this.blockPosToIndex(pos))) {
+                this.queuedLightingUpdateCount.decrementAndGet();
+            }
             spongeChunk.getPendingLightUpdates().decrementAndGet();
             for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
                 final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
@@ -213,13 +217,12 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
             return false;
         }
 
-        final short shortPos = this.blockPosToShort(pos);
-        if (spongeChunk.getQueuedLightingUpdates(lightType).contains(shortPos)) {
+        if (!spongeChunk.getQueuedLightingUpdates(lightType).testAndSet(this.blockPosToIndex(pos))) {
             return false;
         }
 
         final Chunk chunk = currentChunk;
-        spongeChunk.getQueuedLightingUpdates(lightType).add(shortPos);
+        this.queuedLightingUpdateCount.incrementAndGet();
         spongeChunk.getPendingLightUpdates().incrementAndGet();
         spongeChunk.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
 
@@ -265,6 +268,11 @@ public ExecutorService getLightingExecutor() {
         return this.lightExecutorService;
     }
 
+    @Override
+    public int getQueuedLightingUpdateCount() {
+        return this.queuedLightingUpdateCount.get();
+    }
+
     // Thread safe methods to retrieve a chunk during async light updates
     // Each method avoids calling getLoadedChunk and instead accesses the passed neighbor chunk list to avoid concurrency issues
     public Chunk getLightChunk(BlockPos pos, Chunk currentChunk, List<Chunk> neighbors) {
@@ -356,23 +364,15 @@ public void setLightForAsync(EnumSkyBlock type, BlockPos pos, int lightValue, Ch
         }
     }
 
-    private short blockPosToShort(BlockPos pos) {
-        short serialized = (short) setNibble(0, pos.getX() & XZ_MASK, 0, NUM_XZ_BITS);
-        serialized = (short) setNibble(serialized, pos.getY() & Y_SHORT_MASK, 1, NUM_SHORT_Y_BITS);
-        serialized = (short) setNibble(serialized, pos.getZ() & XZ_MASK, 3, NUM_XZ_BITS);
-        return serialized;
-    }
-
     /**
-     * Modifies bits in an integer.
+     * Packs the chunk relative position into an index of the queued lighting
+     * update set. The y coordinate occupies the upper bits so that each chunk
+     * section maps onto its own section of the set.
      *
-     * @param num Integer to modify
-     * @param data Bits of data to add
-     * @param which Index of nibble to start at
-     * @param bitsToReplace The number of bits to replace starting from nibble index
-     * @return The modified integer
+     * @param pos The block position
+     * @return The packed index, between 0 and 65535
      */
-    private int setNibble(int num, int data, int which, int bitsToReplace) {
-        return (num & ~(bitsToReplace << (which * 4)) | (data << (which * 4)));
+    private int blockPosToIndex(BlockPos pos) {
+        return (pos.getY() & Y_MASK) << (NUM_XZ_BITS * 2) | (pos.getZ() & XZ_MASK) << NUM_XZ_BITS | (pos.getX() & XZ_MASK);
     }
 }
@@ -95,8 +95,14 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     OptimizationCategory::useEnchantmentHelperFix)
             .put("org.spongepowered.common.mixin.optimization.block.MixinBlockRedstoneWire",
                     OptimizationCategory::usePandaRedstone)
+            .put("org.spongepowered.common.mixin.optimization.block.state.MixinStateImplementation",
+                    OptimizationCategory::useBlockStateTransitionTable)
             .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTameable_Cached_Owner",
                     OptimizationCategory::useCacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTracker_Spatial_Hash",
+                    OptimizationCategory::useSpatialEntityTracker)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTrackerEntry_Spatial_Hash",
+                    OptimizationCategory::useSpatialEntityTracker)
             .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
             .put("org.spongepowered.common.mixin.optimization.world.MixinWorldServer_Async_Lighting",
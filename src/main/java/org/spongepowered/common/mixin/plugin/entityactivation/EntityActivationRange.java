@@ -28,6 +28,8 @@
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
@@ -51,6 +53,7 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -73,6 +76,9 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class EntityActivationRange {
@@ -93,6 +99,9 @@ public class EntityActivationRange {
     static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
+    // Only used by activateEntities, cleared after every pass
+    private static final Long2ObjectMap<List<EntityPlayer>> nearbyPlayers = new Long2ObjectOpenHashMap<>();
+    private static final ArrayDeque<List<EntityPlayer>> playerListPool = new ArrayDeque<>();
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -212,24 +221,28 @@ public static void growBb(AxisAlignedBB target, AxisAlignedBB source, int x, int
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>The chunks around every player are first gathered into a grid of
+     * the players that can reach them, so each chunk, and every entity within
+     * it, is only visited once no matter how many players are close by.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(World world) {
-        if (((IMixinWorld) world).isFake()) {
+        if (((IMixinWorld) world).isFake() || world.playerEntities.isEmpty()) {
             return;
         }
 
-        for (EntityPlayer player : world.playerEntities) {
-
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
 
-            maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
-            ((IModData_Activation) player).setActivatedTick(SpongeImpl.getServer().getTickCounter());
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        for (EntityPlayer player : world.playerEntities) {
+            ((IModData_Activation) player).setActivatedTick(currentTick);
             growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
 
             int i = MathHelper.floor(maxBB.minX / 16.0D);
@@ -239,29 +252,45 @@ public static void activateEntities(World world) {
 
             for (int i1 = i; i1 <= j; ++i1) {
                 for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    Chunk chunk = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
+                    final long key = ChunkPos.asLong(i1, j1);
+                    List<EntityPlayer> players = nearbyPlayers.get(key);
+                    if (players == null) {
+                        players = playerListPool.isEmpty() ? new ArrayList<>() : playerListPool.pop();
+                        nearbyPlayers.put(key, players);
                     }
+                    players.add(player);
                 }
             }
         }
+
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) world).getChunkProvider();
+        for (Long2ObjectMap.Entry<List<EntityPlayer>> entry : nearbyPlayers.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final List<EntityPlayer> players = entry.getValue();
+            final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive((int) key, (int) (key >> 32));
+            if (chunk != null) {
+                activateChunkEntities(players, chunk, currentTick);
+            }
+            players.clear();
+            playerListPool.push(players);
+        }
+        nearbyPlayers.clear();
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param players The players close enough to activate entities in the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkEntities(List<EntityPlayer> players, Chunk chunk, long currentTick) {
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
             for (Object o : chunk.getEntityLists()[i]) {
                 Entity entity = (Entity) o;
                 EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
                 final IModData_Activation spongeEntity = (IModData_Activation) entity;
-                long currentTick = SpongeImpl.getServer().getTickCounter();
                 if (!((IMixinEntity) entity).shouldTick()) {
                     continue;
                 }
@@ -282,53 +311,37 @@ private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
                         spongeEntity.requiresActivationCacheRefresh(false);
                     }
                     // check for entity type overrides
-                    byte activationType = spongeEntity.getActivationType();
-                    int bbActivationRange = spongeEntity.getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
+                    final AxisAlignedBB activationBB = getActivationBB(spongeEntity.getActivationType());
+                    final int bbActivationRange = spongeEntity.getActivationRange();
 
-                    switch (spongeEntity.getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
+                    for (EntityPlayer player : players) {
+                        growBb(activationBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                        if (activationBB.intersects(entity.getEntityBoundingBox())) {
+                            spongeEntity.setActivatedTick(currentTick);
                             break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.setActivatedTick(currentTick);
-                            }
+                        }
                     }
                 }
             }
         }
     }
 
+    private static AxisAlignedBB getActivationBB(byte activationType) {
+        switch (activationType) {
+            case 1:
+                return monsterBB;
+            case 2:
+                return creatureBB;
+            case 3:
+                return aquaticBB;
+            case 4:
+                return ambientBB;
+            case 5:
+            default:
+                return miscBB;
+        }
+    }
+
     /**
      * If an entity is not in range, do some more checks to see if we should
      * give it a shot.
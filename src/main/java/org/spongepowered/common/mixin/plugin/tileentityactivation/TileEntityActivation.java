@@ -26,7 +26,6 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.server.management.PlayerChunkMapEntry;
@@ -47,12 +46,15 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
-import org.spongepowered.common.util.VecHelper;
 
+import java.util.List;
 import java.util.Map;
 
 public class TileEntityActivation {
 
+    // Scratch space for the block positions of the players watching a chunk
+    private static int[] playerPositions = new int[3 * 16];
+
     /**
      * Initialize tileentity activation state.
      *
@@ -124,19 +126,21 @@ public static void initializeTileEntityActivationState(TileEntity tileEntity) {
     * Find what tileentities are in range of the players in the world and set
     * active if in range.
     *
+    * <p>Each watched chunk is visited once, checking its tileentities against
+    * all of the players watching it.</p>
+    *
     * @param world The world to perform activation checks in
     */
     public static void activateTileEntities(WorldServer world) {
         final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
         for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
-            for (EntityPlayer player : playerChunkMapEntry.players) {
-                final Chunk chunk = playerChunkMapEntry.chunk;
-                if (chunk == null || chunk.unloadQueued || ((IMixinChunk) chunk).isPersistedChunk()) {
-                    continue;
-                }
-
-                activateChunkTileEntities(player, chunk);
+            final Chunk chunk = playerChunkMapEntry.chunk;
+            if (chunk == null || chunk.unloadQueued || ((IMixinChunk) chunk).isPersistedChunk() || playerChunkMapEntry.players.isEmpty()) {
+                continue;
             }
+
+            activateChunkTileEntities(playerChunkMapEntry.players, chunk, currentTick);
         }
     }
 
@@ -144,11 +148,25 @@ public static void activateTileEntities(WorldServer world) {
     /**
      * Checks for the activation state of all tileentities in this chunk.
      *
+     * @param players The players watching the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
      */
-    private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk) {
-        final Vector3i playerPos = VecHelper.toVector3i(player.getPosition());
-        final long currentTick = SpongeImpl.getServer().getTickCounter();
+    private static void activateChunkTileEntities(List<? extends EntityPlayer> players, Chunk chunk, long currentTick) {
+        if (chunk.getTileEntityMap().isEmpty()) {
+            return;
+        }
+        final int playerCount = players.size();
+        if (playerPositions.length < playerCount * 3) {
+            playerPositions = new int[playerCount * 3];
+        }
+        for (int i = 0; i < playerCount; i++) {
+            final BlockPos playerPos = players.get(i).getPosition();
+            playerPositions[i * 3] = playerPos.getX();
+            playerPositions[i * 3 + 1] = playerPos.getY();
+            playerPositions[i * 3 + 2] = playerPos.getZ();
+        }
+
         for (Map.Entry<BlockPos, TileEntity> mapEntry : chunk.getTileEntityMap().entrySet()) {
             final TileEntity tileEntity = mapEntry.getValue();
             final IModData_Activation spongeTileEntity = (IModData_Activation) tileEntity;
@@ -161,10 +179,9 @@ private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk)
                 continue;
             }
 
-            final Vector3i tilePos = VecHelper.toVector3i(tileEntity.getPos());
-            if (currentTick > ((IModData_Activation) tileEntity).getActivatedTick()) {
+            if (currentTick > spongeTileEntity.getActivatedTick()) {
                 if (spongeTileEntity.getDefaultActivationState()) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
+                    spongeTileEntity.setActivatedTick(currentTick);
                     continue;
                 }
 
@@ -174,10 +191,18 @@ private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk)
                     spongeTileEntity.requiresActivationCacheRefresh(false);
                 }
 
-                int bbActivationRange = ((IModData_Activation) tileEntity).getActivationRange();
-                int blockDistance = Math.round(tilePos.distance(playerPos));
-                if (blockDistance <= bbActivationRange) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
+                // Math.round(distance) <= range holds exactly when distance < range + 0.5
+                final double activationRange = spongeTileEntity.getActivationRange() + 0.5D;
+                final double activationRangeSq = activationRange * activationRange;
+                final BlockPos tilePos = tileEntity.getPos();
+                for (int i = 0; i < playerCount; i++) {
+                    final double dx = tilePos.getX() - playerPositions[i * 3];
+                    final double dy = tilePos.getY() - playerPositions[i * 3 + 1];
+                    final double dz = tilePos.getZ() - playerPositions[i * 3 + 2];
+                    if (dx * dx + dy * dy + dz * dz < activationRangeSq) {
+                        spongeTileEntity.setActivatedTick(currentTick);
+                        break;
+                    }
                 }
             }
         }
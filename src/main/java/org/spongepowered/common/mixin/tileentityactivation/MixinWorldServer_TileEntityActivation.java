@@ -24,12 +24,14 @@
  */
 package org.spongepowered.common.mixin.tileentityactivation;
 
+import co.aikar.timings.Timing;
 import net.minecraft.util.ITickable;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
@@ -39,7 +41,10 @@ public abstract class MixinWorldServer_TileEntityActivation extends MixinWorld {
 
     @Override
     public void spongeTileEntityActivation() {
+        final Timing timing = ((IMixinWorldServer) this).getTimingsHandler().tileEntityActivation;
+        timing.startTiming();
         TileEntityActivation.activateTileEntities((WorldServer) (Object) this);
+        timing.stopTiming();
     }
 
     // Note: This method overrides our updateTileEntity method in MixinWorldServer
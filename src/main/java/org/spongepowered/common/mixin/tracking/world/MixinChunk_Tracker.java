@@ -24,6 +24,10 @@
  */
 package org.spongepowered.common.mixin.tracking.world;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -53,8 +57,6 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.SpongeUsernameCache;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -77,8 +79,20 @@ public abstract class MixinChunk_Tracker implements Chunk, IMixinChunk {
     @Shadow @Final public int x;
     @Shadow @Final public int z;
 
-    private Map<Integer, PlayerTracker> trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> trackedShortBlockPositions = new HashMap<>();
+    private Int2LongMap trackedIntBlockPositions = createIntTrackerMap();
+    private Short2LongMap trackedShortBlockPositions = createShortTrackerMap();
+
+    private static Int2LongMap createIntTrackerMap() {
+        final Int2LongMap map = new Int2LongOpenHashMap();
+        map.defaultReturnValue(PlayerTracker.NONE);
+        return map;
+    }
+
+    private static Short2LongMap createShortTrackerMap() {
+        final Short2LongMap map = new Short2LongOpenHashMap();
+        map.defaultReturnValue(PlayerTracker.NONE);
+        return map;
+    }
 
     @Final // need this constructor to never be overwritten by anything.
     @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"), remap = false)
@@ -113,54 +127,53 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
         final int indexForUniqueId = worldInfo.getIndexForUniqueId(user.getUniqueId());
         if (pos.getY() <= 255) {
             short blockPos = this.blockPosToShort(pos);
-            final PlayerTracker playerTracker = this.trackedShortBlockPositions.get(blockPos);
-            if (playerTracker != null) {
+            final long playerTracker = this.trackedShortBlockPositions.get(blockPos);
+            if (playerTracker != PlayerTracker.NONE) {
                 if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
+                    this.trackedShortBlockPositions.put(blockPos, PlayerTracker.pack(indexForUniqueId, indexForUniqueId));
                 } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
+                    this.trackedShortBlockPositions.put(blockPos, PlayerTracker.withNotifier(playerTracker, indexForUniqueId));
                 }
             } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
+                this.trackedShortBlockPositions.put(blockPos, PlayerTracker.pack(indexForUniqueId, trackerType));
             }
         } else {
             int blockPos = this.blockPosToInt(pos);
-            final PlayerTracker playerTracker = this.trackedIntBlockPositions.get(blockPos);
-            if (playerTracker != null) {
+            final long playerTracker = this.trackedIntBlockPositions.get(blockPos);
+            if (playerTracker != PlayerTracker.NONE) {
                 if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
+                    this.trackedIntBlockPositions.put(blockPos, PlayerTracker.withOwner(playerTracker, indexForUniqueId));
                 } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
+                    this.trackedIntBlockPositions.put(blockPos, PlayerTracker.withNotifier(playerTracker, indexForUniqueId));
                 }
             } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
+                this.trackedIntBlockPositions.put(blockPos, PlayerTracker.pack(indexForUniqueId, trackerType));
             }
         }
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
+    public Int2LongMap getTrackedIntPlayerPositions() {
         return this.trackedIntBlockPositions;
     }
 
     @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
+    public Short2LongMap getTrackedShortPlayerPositions() {
         return this.trackedShortBlockPositions;
     }
 
     @Override
     public Optional<User> getBlockOwner(BlockPos pos) {
         final int intKey = this.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            final int notifierIndex = intTracker.ownerIndex;
+        final long intTracker = this.trackedIntBlockPositions.get(intKey);
+        if (intTracker != PlayerTracker.NONE) {
+            final int notifierIndex = PlayerTracker.getOwnerIndex(intTracker);
             return this.getValidatedUser(intKey, notifierIndex);
         } else {
             final short shortKey = this.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int notifierIndex = shortTracker.ownerIndex;
+            final long shortTracker = this.trackedShortBlockPositions.get(shortKey);
+            if (shortTracker != PlayerTracker.NONE) {
+                final int notifierIndex = PlayerTracker.getOwnerIndex(shortTracker);
                 return this.getValidatedUser(shortKey, notifierIndex);
             }
         }
@@ -171,15 +184,15 @@ public Optional<User> getBlockOwner(BlockPos pos) {
     @Override
     public Optional<UUID> getBlockOwnerUUID(BlockPos pos) {
         final int key = this.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = intTracker.ownerIndex;
+        final long intTracker = this.trackedIntBlockPositions.get(key);
+        if (intTracker != PlayerTracker.NONE) {
+            final int ownerIndex = PlayerTracker.getOwnerIndex(intTracker);
             return this.getValidatedUUID(key, ownerIndex);
         } else {
             final short shortKey = this.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int ownerIndex = shortTracker.ownerIndex;
+            final long shortTracker = this.trackedShortBlockPositions.get(shortKey);
+            if (shortTracker != PlayerTracker.NONE) {
+                final int ownerIndex = PlayerTracker.getOwnerIndex(shortTracker);
                 return this.getValidatedUUID(shortKey, ownerIndex);
             }
         }
@@ -190,14 +203,14 @@ public Optional<UUID> getBlockOwnerUUID(BlockPos pos) {
     @Override
     public Optional<User> getBlockNotifier(BlockPos pos) {
         final int intKey = this.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            return this.getValidatedUser(intKey, intTracker.notifierIndex);
+        final long intTracker = this.trackedIntBlockPositions.get(intKey);
+        if (intTracker != PlayerTracker.NONE) {
+            return this.getValidatedUser(intKey, PlayerTracker.getNotifierIndex(intTracker));
         } else {
             final short shortKey = this.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.getValidatedUser(shortKey, shortTracker.notifierIndex);
+            final long shortTracker = this.trackedShortBlockPositions.get(shortKey);
+            if (shortTracker != PlayerTracker.NONE) {
+                return this.getValidatedUser(shortKey, PlayerTracker.getNotifierIndex(shortTracker));
             }
         }
 
@@ -207,14 +220,14 @@ public Optional<User> getBlockNotifier(BlockPos pos) {
     @Override
     public Optional<UUID> getBlockNotifierUUID(BlockPos pos) {
         final int key = this.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            return this.getValidatedUUID(key, intTracker.notifierIndex);
+        final long intTracker = this.trackedIntBlockPositions.get(key);
+        if (intTracker != PlayerTracker.NONE) {
+            return this.getValidatedUUID(key, PlayerTracker.getNotifierIndex(intTracker));
         } else {
             final short shortKey = this.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.getValidatedUUID(shortKey, shortTracker.notifierIndex);
+            final long shortTracker = this.trackedShortBlockPositions.get(shortKey);
+            if (shortTracker != PlayerTracker.NONE) {
+                return this.getValidatedUUID(shortKey, PlayerTracker.getNotifierIndex(shortTracker));
             }
         }
 
@@ -271,60 +284,58 @@ private Optional<User> getUserFromId(UUID uuid) {
     // Special setter used by API
     @Override
     public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
+        final int index = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
         if (pos.getY() <= 255) {
             short blockPos = this.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.notifierIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
+            this.putShortTracker(blockPos, PlayerTracker.withNotifier(this.trackedShortBlockPositions.get(blockPos), index));
         } else {
             int blockPos = this.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.notifierIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
+            this.putIntTracker(blockPos, PlayerTracker.withNotifier(this.trackedIntBlockPositions.get(blockPos), index));
         }
     }
 
     // Special setter used by API
     @Override
     public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
+        final int index = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
         if (pos.getY() <= 255) {
             short blockPos = this.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
+            this.putShortTracker(blockPos, PlayerTracker.withOwner(this.trackedShortBlockPositions.get(blockPos), index));
         } else {
             int blockPos = this.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
+            this.putIntTracker(blockPos, PlayerTracker.withOwner(this.trackedIntBlockPositions.get(blockPos), index));
+        }
+    }
+
+    /**
+     * Stores the packed tracker, dropping the position entirely once neither
+     * an owner nor a notifier remains.
+     */
+    private void putShortTracker(short blockPos, long tracker) {
+        if (tracker == PlayerTracker.NONE) {
+            this.trackedShortBlockPositions.remove(blockPos);
+        } else {
+            this.trackedShortBlockPositions.put(blockPos, tracker);
+        }
+    }
+
+    private void putIntTracker(int blockPos, long tracker) {
+        if (tracker == PlayerTracker.NONE) {
+            this.trackedIntBlockPositions.remove(blockPos);
+        } else {
+            this.trackedIntBlockPositions.put(blockPos, tracker);
         }
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
+    public void setTrackedIntPlayerPositions(Int2LongMap trackedPositions) {
+        trackedPositions.defaultReturnValue(PlayerTracker.NONE);
         this.trackedIntBlockPositions = trackedPositions;
     }
 
     @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setTrackedShortPlayerPositions(Short2LongMap trackedPositions) {
+        trackedPositions.defaultReturnValue(PlayerTracker.NONE);
         this.trackedShortBlockPositions = trackedPositions;
     }
 
@@ -25,11 +25,16 @@
 package org.spongepowered.common.network;
 
 import com.flowpowered.math.vector.Vector3d;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.EnumConnectionState;
+import net.minecraft.network.EnumPacketDirection;
 import net.minecraft.network.INetHandler;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.Packet;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.client.CPacketAnimation;
 import net.minecraft.network.play.client.CPacketClientSettings;
 import net.minecraft.network.play.client.CPacketClientStatus;
@@ -72,6 +77,7 @@
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.util.VecHelper;
 
+import java.io.IOException;
 import java.lang.ref.WeakReference;
 
 public class PacketUtil {
@@ -161,6 +167,31 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
         }
     }
 
+    /**
+     * Encodes a clientbound play packet the same way the packet encoder of a
+     * connection would, so the buffer can be written to any number of play
+     * connections.
+     *
+     * @param packet The packet to encode
+     * @return The buffer holding the packet id and data
+     * @throws IOException If the packet isn't a play packet or can't be written
+     */
+    public static ByteBuf encodePlayPacket(Packet<?> packet) throws IOException {
+        final Integer packetId = EnumConnectionState.PLAY.getPacketId(EnumPacketDirection.CLIENTBOUND, packet);
+        if (packetId == null) {
+            throw new IOException("Can't serialize unregistered packet " + packet.getClass().getName());
+        }
+        final PacketBuffer buffer = new PacketBuffer(PooledByteBufAllocator.DEFAULT.buffer());
+        try {
+            buffer.writeVarInt(packetId);
+            packet.writePacketData(buffer);
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+        return buffer;
+    }
+
     private static boolean creativeCheck(Packet<?> packetIn, EntityPlayerMP playerMP) {
         return packetIn instanceof CPacketCreativeInventoryAction;
     }
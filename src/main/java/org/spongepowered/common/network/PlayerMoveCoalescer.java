@@ -0,0 +1,160 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+/**
+ * Collects the movements a player sent during one tick, so a single move
+ * event can be thrown for them. The first position a movement started from
+ * and the last position a movement went to are kept, everything in between
+ * is dropped.
+ *
+ * <p>Rotations are stored as pitch and yaw, matching the x and y components
+ * of an entity rotation.</p>
+ */
+public final class PlayerMoveCoalescer {
+
+    // These magic numbers are sad but help prevent excessive lag from the move event.
+    // eventually it would be nice to not have them
+    private static final double MIN_POSITION_DELTA_SQUARED = (1f / 16) * (1f / 16);
+    private static final double MIN_ROTATION_DELTA_SQUARED = .15f * .15f;
+
+    private boolean pending;
+    private double fromX;
+    private double fromY;
+    private double fromZ;
+    private double fromPitch;
+    private double fromYaw;
+    private double toX;
+    private double toY;
+    private double toZ;
+    private double toPitch;
+    private double toYaw;
+
+    /**
+     * Gets whether a movement is large enough to throw a move event for.
+     *
+     * @return True if the position or rotation changed enough
+     */
+    public static boolean isSignificant(double fromX, double fromY, double fromZ, double fromPitch, double fromYaw,
+            double toX, double toY, double toZ, double toPitch, double toYaw) {
+        final double dx = toX - fromX;
+        final double dy = toY - fromY;
+        final double dz = toZ - fromZ;
+        if (dx * dx + dy * dy + dz * dz > MIN_POSITION_DELTA_SQUARED) {
+            return true;
+        }
+        final double dPitch = toPitch - fromPitch;
+        final double dYaw = toYaw - fromYaw;
+        return dPitch * dPitch + dYaw * dYaw > MIN_ROTATION_DELTA_SQUARED;
+    }
+
+    /**
+     * Adds a movement. The start of the movement is only kept if nothing was
+     * collected since the last {@link #reset()}.
+     */
+    public void add(double fromX, double fromY, double fromZ, double fromPitch, double fromYaw,
+            double toX, double toY, double toZ, double toPitch, double toYaw) {
+        if (!this.pending) {
+            this.pending = true;
+            this.fromX = fromX;
+            this.fromY = fromY;
+            this.fromZ = fromZ;
+            this.fromPitch = fromPitch;
+            this.fromYaw = fromYaw;
+        }
+        this.toX = toX;
+        this.toY = toY;
+        this.toZ = toZ;
+        this.toPitch = toPitch;
+        this.toYaw = toYaw;
+    }
+
+    /**
+     * Adds a resolved movement, see {@link #add(double, double, double, double, double, double, double, double, double, double)}.
+     */
+    public void add(PlayerMovement movement) {
+        this.add(movement.getFromX(), movement.getFromY(), movement.getFromZ(), movement.getFromPitch(), movement.getFromYaw(),
+                movement.getToX(), movement.getToY(), movement.getToZ(), movement.getToPitch(), movement.getToYaw());
+    }
+
+    public boolean hasPending() {
+        return this.pending;
+    }
+
+    /**
+     * Gets whether the collected movement is large enough to throw a move
+     * event for.
+     *
+     * @return True if a movement was collected and it is significant
+     */
+    public boolean isPendingSignificant() {
+        return this.pending && isSignificant(this.fromX, this.fromY, this.fromZ, this.fromPitch, this.fromYaw,
+                this.toX, this.toY, this.toZ, this.toPitch, this.toYaw);
+    }
+
+    public void reset() {
+        this.pending = false;
+    }
+
+    public double getFromX() {
+        return this.fromX;
+    }
+
+    public double getFromY() {
+        return this.fromY;
+    }
+
+    public double getFromZ() {
+        return this.fromZ;
+    }
+
+    public double getFromPitch() {
+        return this.fromPitch;
+    }
+
+    public double getFromYaw() {
+        return this.fromYaw;
+    }
+
+    public double getToX() {
+        return this.toX;
+    }
+
+    public double getToY() {
+        return this.toY;
+    }
+
+    public double getToZ() {
+        return this.toZ;
+    }
+
+    public double getToPitch() {
+        return this.toPitch;
+    }
+
+    public double getToYaw() {
+        return this.toYaw;
+    }
+}
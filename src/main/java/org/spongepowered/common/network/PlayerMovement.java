@@ -0,0 +1,154 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import com.flowpowered.math.vector.Vector3d;
+
+import javax.annotation.Nullable;
+
+/**
+ * The movement described by a single movement packet of a player. Packets
+ * only carry the position or rotation if it changed, the missing parts are
+ * taken from the player.
+ *
+ * <p>Rotations are stored as pitch and yaw, matching the x and y components
+ * of an entity rotation.</p>
+ */
+public final class PlayerMovement {
+
+    private boolean fromLastMove;
+    private double fromX;
+    private double fromY;
+    private double fromZ;
+    private double fromPitch;
+    private double fromYaw;
+    private double toX;
+    private double toY;
+    private double toZ;
+    private double toPitch;
+    private double toYaw;
+
+    /**
+     * Resolves the movement of a packet.
+     *
+     * <p>The movement starts at the position the last move event ended at,
+     * so small movements add up until they are large enough for an event.
+     * Rotation only packets aren't related to a position, so they always
+     * start at the position of the player.</p>
+     *
+     * @param moving Whether the packet carries a position
+     * @param rotating Whether the packet carries a rotation
+     * @param x The x position of the packet
+     * @param y The y position of the packet
+     * @param z The z position of the packet
+     * @param pitch The pitch of the packet
+     * @param yaw The yaw of the packet
+     * @param lastMove The position the last move event ended at, if any
+     * @param playerX The x position of the player
+     * @param playerY The y position of the player
+     * @param playerZ The z position of the player
+     * @param playerPitch The pitch of the player
+     * @param playerYaw The yaw of the player
+     */
+    public void resolve(boolean moving, boolean rotating, double x, double y, double z, double pitch, double yaw, @Nullable Vector3d lastMove,
+            double playerX, double playerY, double playerZ, double playerPitch, double playerYaw) {
+        // Minecraft sends a 0, 0, 0 position when rotation only update occurs, this needs to be recognized and corrected
+        final boolean rotationOnly = !moving && rotating;
+        // Minecraft does the same with rotation when it's only a positional update
+        final boolean positionOnly = moving && !rotating;
+
+        this.fromLastMove = lastMove != null && !rotationOnly;
+        this.fromX = this.fromLastMove ? lastMove.getX() : playerX;
+        this.fromY = this.fromLastMove ? lastMove.getY() : playerY;
+        this.fromZ = this.fromLastMove ? lastMove.getZ() : playerZ;
+        this.fromPitch = playerPitch;
+        this.fromYaw = playerYaw;
+        this.toX = rotationOnly ? this.fromX : x;
+        this.toY = rotationOnly ? this.fromY : y;
+        this.toZ = rotationOnly ? this.fromZ : z;
+        this.toPitch = positionOnly ? playerPitch : pitch;
+        this.toYaw = positionOnly ? playerYaw : yaw;
+    }
+
+    /**
+     * Gets whether the movement starts at the last move position passed to
+     * {@link #resolve}, rather than at the position of the player.
+     *
+     * @return True if the last move position was used
+     */
+    public boolean isFromLastMove() {
+        return this.fromLastMove;
+    }
+
+    /**
+     * Gets whether the movement is large enough to throw a move event for.
+     *
+     * @return True if the position or rotation changed enough
+     */
+    public boolean isSignificant() {
+        return PlayerMoveCoalescer.isSignificant(this.fromX, this.fromY, this.fromZ, this.fromPitch, this.fromYaw,
+                this.toX, this.toY, this.toZ, this.toPitch, this.toYaw);
+    }
+
+    public double getFromX() {
+        return this.fromX;
+    }
+
+    public double getFromY() {
+        return this.fromY;
+    }
+
+    public double getFromZ() {
+        return this.fromZ;
+    }
+
+    public double getFromPitch() {
+        return this.fromPitch;
+    }
+
+    public double getFromYaw() {
+        return this.fromYaw;
+    }
+
+    public double getToX() {
+        return this.toX;
+    }
+
+    public double getToY() {
+        return this.toY;
+    }
+
+    public double getToZ() {
+        return this.toZ;
+    }
+
+    public double getToPitch() {
+        return this.toPitch;
+    }
+
+    public double getToYaw() {
+        return this.toYaw;
+    }
+}
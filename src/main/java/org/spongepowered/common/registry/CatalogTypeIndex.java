@@ -0,0 +1,180 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.registry;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.registry.CatalogRegistryModule;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of the catalog types of all registry modules by their id, used by
+ * {@link SpongeGameRegistry#getType(Class, String)} to look up catalog types
+ * without lower casing the id or going through the module.
+ *
+ * <p>The ids are lower cased when the index is built, lookups compare the
+ * ASCII characters of an id case insensitively. Ids that aren't in the index
+ * are still looked up through the module, because modules may accept ids a
+ * catalog type isn't registered with. Each index is immutable once built and
+ * replaced as a whole, so it can be read from any thread.</p>
+ */
+final class CatalogTypeIndex {
+
+    private volatile Map<Class<?>, IdTable> tables = Collections.emptyMap();
+
+    /**
+     * Rebuilds the index from all catalog types the modules currently hold.
+     *
+     * @param modules The registry modules by catalog class
+     */
+    void rebuild(Map<Class<? extends CatalogType>, CatalogRegistryModule<?>> modules) {
+        final Map<Class<?>, IdTable> tables = new IdentityHashMap<>();
+        for (Map.Entry<Class<? extends CatalogType>, CatalogRegistryModule<?>> entry : modules.entrySet()) {
+            tables.put(entry.getKey(), new IdTable(entry.getValue().getAll()));
+        }
+        this.tables = tables;
+    }
+
+    /**
+     * Removes the catalog types of the given class from the index, they will
+     * be looked up through their module until the index is rebuilt.
+     *
+     * @param catalogClass The catalog class
+     */
+    void invalidate(Class<?> catalogClass) {
+        if (this.tables.containsKey(catalogClass)) {
+            final Map<Class<?>, IdTable> tables = new IdentityHashMap<>(this.tables);
+            tables.remove(catalogClass);
+            this.tables = tables;
+        }
+    }
+
+    /**
+     * Gets the catalog type with the given id, ignoring case.
+     *
+     * @param catalogClass The catalog class
+     * @param id The id
+     * @param <T> The type of catalog type
+     * @return The catalog type, or null if the id isn't indexed
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    <T extends CatalogType> Optional<T> get(Class<T> catalogClass, String id) {
+        final IdTable table = this.tables.get(catalogClass);
+        return table == null ? null : (Optional<T>) table.get(id);
+    }
+
+    /**
+     * An open addressing table of lower case ids. The values are cached
+     * optionals so a lookup doesn't allocate.
+     */
+    private static final class IdTable {
+
+        private final String[] keys;
+        private final Optional<?>[] values;
+        private final int mask;
+
+        IdTable(Collection<? extends CatalogType> catalogTypes) {
+            final int capacity = HashCommon.arraySize(Math.max(catalogTypes.size(), 1), 0.5f);
+            this.keys = new String[capacity];
+            this.values = new Optional<?>[capacity];
+            this.mask = capacity - 1;
+            for (CatalogType catalogType : catalogTypes) {
+                final String id = catalogType.getId();
+                if (id != null) {
+                    this.put(id.toLowerCase(Locale.ENGLISH), catalogType);
+                }
+            }
+        }
+
+        private void put(String key, CatalogType catalogType) {
+            final int hash = hash(key);
+            if (hash == -1) {
+                return;
+            }
+            int index = HashCommon.mix(hash) & this.mask;
+            String existing;
+            while ((existing = this.keys[index]) != null) {
+                if (existing.equals(key)) {
+                    // Multiple catalog types share this id, leave it to the module to resolve it
+                    if (this.values[index] != null && this.values[index].get() != catalogType) {
+                        this.values[index] = null;
+                    }
+                    return;
+                }
+                index = (index + 1) & this.mask;
+            }
+            this.keys[index] = key;
+            this.values[index] = Optional.of(catalogType);
+        }
+
+        @Nullable
+        Optional<?> get(String id) {
+            final int hash = hash(id);
+            if (hash == -1) {
+                return null;
+            }
+            final int length = id.length();
+            int index = HashCommon.mix(hash) & this.mask;
+            String key;
+            while ((key = this.keys[index]) != null) {
+                if (key.length() == length && key.regionMatches(true, 0, id, 0, length)) {
+                    return this.values[index];
+                }
+                index = (index + 1) & this.mask;
+            }
+            return null;
+        }
+
+        /**
+         * Computes the {@link String#hashCode()} of the lower case id.
+         *
+         * @param id The id
+         * @return The hash, or -1 if the id contains non ASCII characters
+         */
+        private static int hash(String id) {
+            int hash = 0;
+            for (int i = 0; i < id.length(); i++) {
+                char c = id.charAt(i);
+                if (c >= 128) {
+                    return -1;
+                }
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+                hash = 31 * hash + c;
+            }
+            return hash == -1 ? 0 : hash;
+        }
+    }
+}
@@ -153,6 +153,7 @@ public class SpongeGameRegistry implements GameRegistry {
     final Map<Class<? extends RegistryModule>, RegistryModule> classMap = new IdentityHashMap<>();
     private final Map<Class<?>, Supplier<?>> builderSupplierMap = new IdentityHashMap<>();
     private final Set<RegistryModule> registryModules = new HashSet<>();
+    private final CatalogTypeIndex catalogTypeIndex = new CatalogTypeIndex();
 
     @Inject
     public SpongeGameRegistry(SpongePropertyRegistry propertyRegistry) {
@@ -230,6 +231,7 @@ public <T extends CatalogType> SpongeGameRegistry registerModule(Class<T> catalo
         }
 
         this.catalogRegistryMap.put(catalogClass, registryModule);
+        this.catalogTypeIndex.invalidate(catalogClass);
         if (!this.orderedModules.isEmpty()) {
             if (catalogClass.getName().contains("org.spongepowered.api") && catalogClass.getAnnotation(PluginProvidedRegistryModule.class) == null) {
                 throw new UnsupportedOperationException("Cannot register a module for an API defined class! That's the implementation's job!");
@@ -313,6 +315,10 @@ public <TUnknown, T extends CatalogType> T getTranslated(Class<TUnknown> clazz,
 
     @Override
     public <T extends CatalogType> Optional<T> getType(Class<T> typeClass, String id) {
+        final Optional<T> indexed = this.catalogTypeIndex.get(typeClass, id);
+        if (indexed != null) {
+            return indexed;
+        }
         CatalogRegistryModule<T> registryModule = getRegistryModuleFor(typeClass).orElse(null);
         if (registryModule == null) {
             return Optional.empty();
@@ -362,6 +368,7 @@ public <T extends CatalogType> T register(Class<T> type, T obj) throws IllegalAr
         if (registryModule == null) {
             throw new UnsupportedOperationException("Failed to find a RegistryModule for that type");
         }
+        this.catalogTypeIndex.invalidate(type);
         if (registryModule instanceof SpongeAdditionalCatalogRegistryModule) {
             if(((SpongeAdditionalCatalogRegistryModule<T>) registryModule).allowsApiRegistration()) {
                 ((SpongeAdditionalCatalogRegistryModule<T>) registryModule).registerAdditionalCatalog(obj);
@@ -569,10 +576,14 @@ public void postInit() {
         this.propertyRegistry.completeRegistration();
         SpongeDataManager.finalizeRegistration();
         this.phase = RegistrationPhase.LOADED;
+        this.catalogTypeIndex.rebuild(this.catalogRegistryMap);
     }
 
     public void registerAdditionals() {
         registerAdditionalPhase();
+        if (this.phase == RegistrationPhase.LOADED) {
+            this.catalogTypeIndex.rebuild(this.catalogRegistryMap);
+        }
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -33,15 +33,33 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.ArrayDeque;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.Nullable;
 
 abstract class SchedulerBase {
 
+    private static final Comparator<ScheduledTask> DEADLINE_ORDER = Comparator.comparingLong(ScheduledTask::getDeadline);
+
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks that were added (from any thread) since the last tick, they are
+    // moved into the deadline queues by the thread running the scheduler
+    private final Queue<ScheduledTask> addedTasks = new ConcurrentLinkedQueue<>();
+    // Pending tasks ordered by the timestamp they become due at. Timestamps
+    // based on ticks and on real time can't be compared, so both get a queue.
+    private final PriorityQueue<ScheduledTask> tickDeadlines = new PriorityQueue<>(DEADLINE_ORDER);
+    private final PriorityQueue<ScheduledTask> timeDeadlines = new PriorityQueue<>(DEADLINE_ORDER);
+    // Tasks that were processed during this tick and need to be queued again
+    private final Queue<ScheduledTask> requeuedTasks = new ArrayDeque<>();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -68,6 +86,17 @@ protected long getTimestamp(ScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets whether the timestamp returned by {@link #getTimestamp} for the
+     * task, in its current state, is based on ticks instead of real time.
+     *
+     * @param task The task
+     * @return True if the timestamp is measured in ticks
+     */
+    protected boolean isTickTimestamp(ScheduledTask task) {
+        return false;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
      * next call to {@link #runTick}.
@@ -76,7 +105,9 @@ protected long getTimestamp(ScheduledTask task) {
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.setScheduler(this);
         this.taskMap.put(task.getUniqueId(), task);
+        this.addedTasks.add(task);
     }
 
     /**
@@ -99,13 +130,49 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Gets whether tasks were added since the last call to {@link #runTick}.
+     *
+     * @return True if there are newly added tasks
+     */
+    protected boolean hasAddedTasks() {
+        return !this.addedTasks.isEmpty();
+    }
+
+    /**
+     * Gets the time in nanoseconds until the earliest real time based task
+     * becomes due. Should only be called from the thread running the
+     * scheduler.
+     *
+     * @return The time until the next task is due, {@link Long#MAX_VALUE}
+     *     if there are no real time based tasks
+     */
+    protected long getTimeUntilNextTask() {
+        final ScheduledTask task = this.peekNotCanceled(this.timeDeadlines);
+        if (task == null) {
+            return Long.MAX_VALUE;
+        }
+        return task.getDeadline() - System.nanoTime();
+    }
+
+    /**
+     * Process all tasks that are due. Tasks that are not due yet aren't
+     * touched, so the cost of a tick only depends on the amount of due tasks.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            ScheduledTask task;
+            while ((task = this.addedTasks.poll()) != null) {
+                this.queueTask(task);
+            }
+            this.processDueTasks(this.tickDeadlines);
+            this.processDueTasks(this.timeDeadlines);
+            while ((task = this.requeuedTasks.poll()) != null) {
+                this.queueTask(task);
+            }
+            this.purgeCanceledTasks(this.tickDeadlines);
+            this.purgeCanceledTasks(this.timeDeadlines);
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -113,6 +180,47 @@ protected final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    private void queueTask(ScheduledTask task) {
+        if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            this.removeTask(task);
+            return;
+        }
+        task.setDeadline(task.nextExecutionTimestamp());
+        if (this.isTickTimestamp(task)) {
+            this.tickDeadlines.add(task);
+        } else {
+            this.timeDeadlines.add(task);
+        }
+    }
+
+    private void processDueTasks(PriorityQueue<ScheduledTask> deadlines) {
+        ScheduledTask task;
+        while ((task = this.peekNotCanceled(deadlines)) != null && task.getDeadline() - this.getTimestamp(task) <= 0) {
+            deadlines.poll();
+            this.processTask(task);
+        }
+    }
+
+    @Nullable
+    private ScheduledTask peekNotCanceled(PriorityQueue<ScheduledTask> deadlines) {
+        // Canceled tasks have no meaningful timestamp, they would hold up every
+        // task behind them until they get purged.
+        ScheduledTask task;
+        while ((task = deadlines.peek()) != null && task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            deadlines.poll();
+            this.removeTask(task);
+        }
+        return task;
+    }
+
+    private void purgeCanceledTasks(PriorityQueue<ScheduledTask> deadlines) {
+        // Canceled tasks are removed from the task map right away but are only
+        // dropped lazily from the queues, clean up if they start piling up.
+        if (deadlines.size() > 64 && deadlines.size() > this.taskMap.size() * 2) {
+            deadlines.removeIf(task -> task.getState() == ScheduledTask.ScheduledTaskState.CANCELED);
+        }
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -133,7 +241,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task that has reached its deadline.
      *
      * @param task The task to process
      */
@@ -144,29 +252,23 @@ protected void processTask(ScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
+        // The previous execution of a repeating task hasn't started yet, check
+        // it again on the next tick.
+        if (task.getState() == ScheduledTask.ScheduledTaskState.SWITCHING) {
+            this.requeuedTasks.add(task);
+            return;
         }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
         // Repeating tasks get a reset-timestamp each time they are set RUNNING
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.period == 0L) {
+            this.removeTask(task);
+        } else {
+            this.requeuedTasks.add(task);
         }
     }
 
@@ -0,0 +1,157 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed size, lock-free bit set that is safe to mutate from several
+ * threads at once.
+ *
+ * <p>The bits are split into sections of {@link #SECTION_BITS} bits which
+ * are only allocated once a bit inside of them is set for the first time,
+ * so sparse sets (such as a handful of pending light updates in a single
+ * chunk section) stay small.</p>
+ */
+public final class AtomicSectionedBitSet {
+
+    public static final int SECTION_SHIFT = 12;
+    public static final int SECTION_BITS = 1 << SECTION_SHIFT;
+    private static final int SECTION_MASK = SECTION_BITS - 1;
+    private static final int WORDS_PER_SECTION = SECTION_BITS >> 6;
+
+    private final int size;
+    private final AtomicReferenceArray<AtomicLongArray> sections;
+    private final AtomicInteger cardinality = new AtomicInteger();
+
+    /**
+     * Creates a new bit set capable of holding the bits {@code [0, size)}.
+     *
+     * @param size The amount of bits
+     */
+    public AtomicSectionedBitSet(int size) {
+        checkArgument(size > 0, "size must be positive");
+        this.size = size;
+        this.sections = new AtomicReferenceArray<>((size + SECTION_MASK) >>> SECTION_SHIFT);
+    }
+
+    /**
+     * Gets whether the given bit is set.
+     *
+     * @param index The bit index
+     * @return True if the bit is set
+     */
+    public boolean get(int index) {
+        final AtomicLongArray section = this.sections.get(this.checkIndex(index) >>> SECTION_SHIFT);
+        return section != null && (section.get((index & SECTION_MASK) >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Atomically sets the given bit.
+     *
+     * @param index The bit index
+     * @return True if the bit was previously clear, false if it was
+     *     already set
+     */
+    public boolean testAndSet(int index) {
+        final AtomicLongArray section = this.getOrCreateSection(this.checkIndex(index) >>> SECTION_SHIFT);
+        final int word = (index & SECTION_MASK) >>> 6;
+        final long mask = 1L << index;
+        long current;
+        do {
+            current = section.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!section.compareAndSet(word, current, current | mask));
+        this.cardinality.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Atomically clears the given bit.
+     *
+     * @param index The bit index
+     * @return True if the bit was previously set
+     */
+    public boolean clear(int index) {
+        final AtomicLongArray section = this.sections.get(this.checkIndex(index) >>> SECTION_SHIFT);
+        if (section == null) {
+            return false;
+        }
+        final int word = (index & SECTION_MASK) >>> 6;
+        final long mask = 1L << index;
+        long current;
+        do {
+            current = section.get(word);
+            if ((current & mask) == 0) {
+                return false;
+            }
+        } while (!section.compareAndSet(word, current, current & ~mask));
+        this.cardinality.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Gets the amount of bits that are currently set. This is maintained
+     * incrementally and does not scan the set.
+     *
+     * @return The amount of set bits
+     */
+    public int cardinality() {
+        return this.cardinality.get();
+    }
+
+    public boolean isEmpty() {
+        return this.cardinality.get() == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private AtomicLongArray getOrCreateSection(int sectionIndex) {
+        AtomicLongArray section = this.sections.get(sectionIndex);
+        if (section == null) {
+            final AtomicLongArray created = new AtomicLongArray(WORDS_PER_SECTION);
+            if (this.sections.compareAndSet(sectionIndex, null, created)) {
+                return created;
+            }
+            section = this.sections.get(sectionIndex);
+        }
+        return section;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + this.size);
+        }
+        return index;
+    }
+}
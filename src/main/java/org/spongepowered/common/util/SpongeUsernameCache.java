@@ -30,16 +30,25 @@
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.annotation.Nullable;
 
 import org.spongepowered.common.SpongeImpl;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
@@ -64,12 +73,27 @@ public final class SpongeUsernameCache {
 
     // Thread-safe map
     private static Map<UUID, String> map = new ConcurrentHashMap<>();
+    // Lower case username to every uuid that last used it, kept in sync with
+    // the map above. The last uuid of an array used the name most recently,
+    // the arrays are replaced instead of modified so readers need no lock.
+    private static final Map<String, UUID[]> index = new ConcurrentHashMap<>();
 
     private static final Charset charset = Charsets.UTF_8;
 
     private static File saveFile = new File(".", "usernamecache.json");
+    private static File journalFile = new File(".", "usernamecache.journal");
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
 
+    // Changes are appended to the journal on save, and the journal is folded
+    // back into the save file once it grows past a fraction of the cache.
+    // The journal starts with the checksum of the save file it applies to, so
+    // a journal left behind by an interrupted compaction is not replayed.
+    private static final int MIN_COMPACT_ENTRIES = 1000;
+    private static final String JOURNAL_HEADER_PREFIX = "#";
+    private static final Queue<String> pendingJournal = new ConcurrentLinkedQueue<>();
+    private static int journalEntries = 0;
+    private static String saveChecksum = checksum("");
+
     private static boolean loaded = false;
 
     /**
@@ -87,6 +111,64 @@ public final class SpongeUsernameCache {
      */
     public static void setServerDir(File serverDir) {
         saveFile = new File(serverDir, saveFile.getName());
+        journalFile = new File(serverDir, journalFile.getName());
+    }
+
+    private static String toKey(String username) {
+        return username.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String checksum(String json) {
+        return Hashing.crc32().hashString(json, charset).toString();
+    }
+
+    private static void put(UUID uuid, String username) {
+        final String previous = map.put(uuid, username);
+        if (previous != null) {
+            unindex(uuid, previous);
+        }
+        index(uuid, username);
+    }
+
+    @Nullable
+    private static String remove(UUID uuid) {
+        final String previous = map.remove(uuid);
+        if (previous != null) {
+            unindex(uuid, previous);
+        }
+        return previous;
+    }
+
+    private static void index(UUID uuid, String username) {
+        index.compute(toKey(username), (key, holders) -> {
+            if (holders == null) {
+                return new UUID[] {uuid};
+            }
+            final UUID[] others = without(holders, uuid);
+            final UUID[] updated = Arrays.copyOf(others, others.length + 1);
+            updated[others.length] = uuid;
+            return updated;
+        });
+    }
+
+    private static void unindex(UUID uuid, String username) {
+        // Another player may have used the same name before, they become the last known holder
+        index.computeIfPresent(toKey(username), (key, holders) -> {
+            final UUID[] others = without(holders, uuid);
+            return others.length == 0 ? null : others;
+        });
+    }
+
+    private static UUID[] without(UUID[] holders, UUID uuid) {
+        for (int i = 0; i < holders.length; i++) {
+            if (holders[i].equals(uuid)) {
+                final UUID[] others = new UUID[holders.length - 1];
+                System.arraycopy(holders, 0, others, 0, i);
+                System.arraycopy(holders, i + 1, others, i, others.length - i);
+                return others;
+            }
+        }
+        return holders;
     }
 
     /**
@@ -108,7 +190,8 @@ public static void setUsername(UUID uuid, String username) {
             return;
         }
 
-        map.put(uuid, username);
+        put(uuid, username);
+        pendingJournal.add(uuid + "\t" + username);
     }
 
     /**
@@ -124,7 +207,8 @@ public static boolean removeUsername(UUID uuid) {
             load();
         }
 
-        if (map.remove(uuid) != null) {
+        if (remove(uuid) != null) {
+            pendingJournal.add(uuid.toString());
             return true;
         }
 
@@ -168,13 +252,8 @@ public static UUID getLastKnownUUID(String username) {
             load();
         }
 
-        for (Map.Entry<UUID, String> mapEntry : map.entrySet()) {
-            if (mapEntry.getValue().equalsIgnoreCase(username)) {
-                return mapEntry.getKey();
-            }
-        }
-
-        return null;
+        final UUID[] holders = index.get(toKey(username));
+        return holders == null ? null : holders[holders.length - 1];
     }
 
     /**
@@ -207,27 +286,85 @@ public static Map<UUID, String> getMap() {
     }
 
     /**
-     * Save the cache to file
+     * Save the changes to the cache to file
+     *
+     * <p>Changes since the last save are appended to the journal. Once the
+     * journal grows large enough, the whole cache is written to the save file
+     * and the journal is cleared.</p>
      */
-    public static void save() {
+    public static synchronized void save() {
         if (!loaded) {
             load();
         }
 
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = pendingJournal.poll()) != null) {
+            lines.add(line);
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        if (journalEntries + lines.size() >= Math.max(MIN_COMPACT_ENTRIES, map.size() / 10)) {
+            compact();
+            return;
+        }
+
         try {
-            // Make sure we don't save when another thread is still saving
-            Files.write(gson.toJson(map), saveFile, charset);
+            if (journalEntries == 0) {
+                // Start a new journal, dropping any stale one a failed compaction left behind
+                final List<String> journal = new ArrayList<>(lines.size() + 1);
+                journal.add(JOURNAL_HEADER_PREFIX + saveChecksum);
+                journal.addAll(lines);
+                java.nio.file.Files.write(journalFile.toPath(), journal, charset, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            } else {
+                java.nio.file.Files.write(journalFile.toPath(), lines, charset, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            journalEntries += lines.size();
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to append to username cache journal, saving the whole cache instead", e);
+            compact();
+        }
+    }
+
+    private static void compact() {
+        final String json = gson.toJson(map);
+        final File tempFile = new File(saveFile.getParentFile(), saveFile.getName() + ".tmp");
+        try {
+            Files.write(json, tempFile, charset);
+            try {
+                java.nio.file.Files.move(tempFile.toPath(), saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                java.nio.file.Files.move(tempFile.toPath(), saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             SpongeImpl.getLogger().error("Failed to save username cache to file!", e);
+            return;
+        }
+        // The journal no longer matches the save file, even if it can't be deleted
+        saveChecksum = checksum(json);
+        journalEntries = 0;
+        if (journalFile.exists() && !journalFile.delete()) {
+            SpongeImpl.getLogger().warn("Could not delete username cache journal {}, it will be replaced on the next save", journalFile);
         }
     }
 
     /**
      * Load the cache from file
      */
-    public static void load() {
+    public static synchronized void load() {
         loaded = true;
-        if (!saveFile.exists()) return;
+        index.clear();
+        pendingJournal.clear();
+        journalEntries = 0;
+        saveChecksum = checksum("");
+        if (!saveFile.exists()) {
+            loadJournal();
+            return;
+        }
 
         try {
 
@@ -235,6 +372,7 @@ public static void load() {
             Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
 
             map = gson.fromJson(json, type);
+            saveChecksum = checksum(json);
         } catch (JsonSyntaxException e) {
             SpongeImpl.getLogger().error("Could not parse username cache file as valid json, deleting file", e);
             saveFile.delete();
@@ -243,9 +381,46 @@ public static void load() {
             saveFile.delete();
         } finally {
             // Can sometimes occur when the json file is malformed
-            if (map == null) {
-                map = Maps.newHashMap();
+            map = map == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(map);
+            for (Map.Entry<UUID, String> mapEntry : map.entrySet()) {
+                index(mapEntry.getKey(), mapEntry.getValue());
             }
         }
+        loadJournal();
+    }
+
+    private static void loadJournal() {
+        if (!journalFile.exists()) {
+            return;
+        }
+
+        try {
+            final List<String> lines = Files.readLines(journalFile, charset);
+            if (lines.isEmpty() || !lines.get(0).equals(JOURNAL_HEADER_PREFIX + saveChecksum)) {
+                // Written against an older save file, which already contains these changes
+                SpongeImpl.getLogger().warn("Ignoring username cache journal that does not match the username cache file");
+                journalFile.delete();
+                return;
+            }
+            for (String line : lines.subList(1, lines.size())) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                final int separator = line.indexOf('\t');
+                try {
+                    if (separator == -1) {
+                        remove(UUID.fromString(line));
+                    } else {
+                        put(UUID.fromString(line.substring(0, separator)), line.substring(separator + 1));
+                    }
+                    journalEntries++;
+                } catch (IllegalArgumentException e) {
+                    SpongeImpl.getLogger().warn("Skipping malformed username cache journal entry: {}", line);
+                }
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to read username cache journal from disk, deleting file", e);
+            journalFile.delete();
+        }
     }
 }
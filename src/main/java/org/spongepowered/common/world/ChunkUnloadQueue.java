@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Chunks that were queued for unload, ordered by the time they may actually
+ * be unloaded. This allows the chunk provider to only look at the chunks
+ * whose unload delay has expired instead of every loaded chunk.
+ *
+ * <p>Entries are not removed when a chunk is marked active again, the chunk
+ * provider has to validate every chunk that is polled.</p>
+ */
+public final class ChunkUnloadQueue {
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private final Set<Chunk> queuedChunks = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Adds the chunk to the queue, if it isn't queued already.
+     *
+     * @param chunk The chunk
+     * @param unloadTime The time in milliseconds after which the chunk may be unloaded
+     */
+    public void add(Chunk chunk, long unloadTime) {
+        if (this.queuedChunks.add(chunk)) {
+            this.queue.add(new Entry(chunk, unloadTime));
+        }
+    }
+
+    /**
+     * Removes and returns the next chunk whose unload time has passed.
+     *
+     * @param now The current time in milliseconds
+     * @return The chunk, or null if no queued chunk may be unloaded yet
+     */
+    @Nullable
+    public Chunk poll(long now) {
+        final Entry entry = this.queue.peek();
+        if (entry == null || entry.unloadTime > now) {
+            return null;
+        }
+        this.queue.poll();
+        this.queuedChunks.remove(entry.chunk);
+        return entry.chunk;
+    }
+
+    public int size() {
+        return this.queue.size();
+    }
+
+    public void clear() {
+        this.queue.clear();
+        this.queuedChunks.clear();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        final Chunk chunk;
+        final long unloadTime;
+
+        Entry(Chunk chunk, long unloadTime) {
+            this.chunk = chunk;
+            this.unloadTime = unloadTime;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(this.unloadTime, other.unloadTime);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EnumCreatureType;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.entity.IMixinEntity;
+
+import javax.annotation.Nullable;
+
+/**
+ * The number of entities per {@link EnumCreatureType} in a world or chunk,
+ * counted the same way as {@link net.minecraft.world.World#countEntities(Class)}.
+ * The counts are updated as entities are added to and removed from worlds
+ * and chunks, so the world spawner doesn't have to walk the loaded entity
+ * list for every creature type.
+ *
+ * <p>Every counted entity remembers the counts it was added to together
+ * with the creature types it was counted as, removals from counts the entity
+ * wasn't added to are ignored.</p>
+ *
+ * <p>Nothing is counted unless
+ * {@code optimizations.incremental-creature-counts} is enabled, changing it
+ * requires a restart.</p>
+ */
+public final class CreatureCounts {
+
+    private static final EnumCreatureType[] CREATURE_TYPES = EnumCreatureType.values();
+    // Read once, entities that were added while counting was off would
+    // never be counted otherwise.
+    private static final boolean ENABLED = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useIncrementalCreatureCounts();
+
+    private static final ClassValue<Integer> CLASS_MASKS = new ClassValue<Integer>() {
+
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int mask = 0;
+            for (EnumCreatureType creatureType : CREATURE_TYPES) {
+                if (creatureType.getCreatureClass().isAssignableFrom(type)) {
+                    mask |= 1 << creatureType.ordinal();
+                }
+            }
+            return mask;
+        }
+    };
+
+    private final int[] counts = new int[CREATURE_TYPES.length];
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public int get(EnumCreatureType type) {
+        return this.counts[type.ordinal()];
+    }
+
+    private void add(int mask) {
+        for (int i = 0; mask != 0; i++, mask >>>= 1) {
+            if ((mask & 1) != 0) {
+                this.counts[i]++;
+            }
+        }
+    }
+
+    private void remove(int mask) {
+        for (int i = 0; mask != 0; i++, mask >>>= 1) {
+            if ((mask & 1) != 0) {
+                this.counts[i]--;
+            }
+        }
+    }
+
+    public static void onWorldAdd(CreatureCounts counts, Entity entity) {
+        if (!ENABLED) {
+            return;
+        }
+        final Entry entry = getOrCreateEntry(entity);
+        if (entry != null) {
+            if (entry.world != null) {
+                entry.world.remove(entry.worldMask);
+            }
+            entry.world = counts;
+            entry.worldMask = getMask(entity);
+            counts.add(entry.worldMask);
+        }
+    }
+
+    public static void onWorldRemove(CreatureCounts counts, Entity entity) {
+        final Entry entry = ((IMixinEntity) entity).getCreatureCountEntry();
+        if (entry != null && entry.world == counts) {
+            counts.remove(entry.worldMask);
+            entry.world = null;
+            entry.worldMask = 0;
+        }
+    }
+
+    public static void onChunkAdd(CreatureCounts counts, Entity entity) {
+        if (!ENABLED) {
+            return;
+        }
+        final Entry entry = getOrCreateEntry(entity);
+        if (entry != null) {
+            if (entry.chunk != null) {
+                entry.chunk.remove(entry.chunkMask);
+            }
+            entry.chunk = counts;
+            entry.chunkMask = getMask(entity);
+            counts.add(entry.chunkMask);
+        }
+    }
+
+    public static void onChunkRemove(CreatureCounts counts, Entity entity) {
+        final Entry entry = ((IMixinEntity) entity).getCreatureCountEntry();
+        if (entry != null && entry.chunk == counts) {
+            counts.remove(entry.chunkMask);
+            entry.chunk = null;
+            entry.chunkMask = 0;
+        }
+    }
+
+    /**
+     * Recounts the entity after its persistence changed, persistent living
+     * entities are not counted towards any creature type.
+     *
+     * @param entity The entity
+     */
+    public static void onPersistenceChanged(Entity entity) {
+        final Entry entry = ((IMixinEntity) entity).getCreatureCountEntry();
+        if (entry == null) {
+            return;
+        }
+        final int mask = getMask(entity);
+        if (entry.world != null) {
+            entry.world.remove(entry.worldMask);
+            entry.world.add(mask);
+            entry.worldMask = mask;
+        }
+        if (entry.chunk != null) {
+            entry.chunk.remove(entry.chunkMask);
+            entry.chunk.add(mask);
+            entry.chunkMask = mask;
+        }
+    }
+
+    private static int getMask(Entity entity) {
+        if (entity instanceof EntityLiving && ((EntityLiving) entity).isNoDespawnRequired()) {
+            return 0;
+        }
+        return CLASS_MASKS.get(entity.getClass());
+    }
+
+    @Nullable
+    private static Entry getOrCreateEntry(Entity entity) {
+        final IMixinEntity mixinEntity = (IMixinEntity) entity;
+        Entry entry = mixinEntity.getCreatureCountEntry();
+        if (entry == null) {
+            // Entities that can never be a creature type don't need to be tracked
+            if (CLASS_MASKS.get(entity.getClass()) == 0) {
+                return null;
+            }
+            entry = new Entry();
+            mixinEntity.setCreatureCountEntry(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * The counts an entity was added to.
+     */
+    public static final class Entry {
+
+        @Nullable CreatureCounts world;
+        int worldMask;
+        @Nullable CreatureCounts chunk;
+        int chunkMask;
+
+        Entry() {
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+
+/**
+ * Splits a cuboid of a detached buffer into sub-cuboids and runs them on the
+ * common {@link ForkJoinPool}. Only used for volumes that are not bound to a
+ * world, since the phase tracker and world access are confined to the main
+ * thread.
+ */
+final class ParallelVolumeWork {
+
+    /**
+     * Volumes with fewer positions than this are always worked on the calling
+     * thread, the task overhead would outweigh the gain.
+     */
+    static final int MIN_PARALLEL_VOLUME = 1 << 15;
+
+    /**
+     * Sub-cuboids are split until they hold at most this many positions.
+     */
+    private static final int LEAF_VOLUME = 1 << 12;
+
+    /**
+     * Work on a cuboid, bounds are inclusive.
+     */
+    @FunctionalInterface
+    interface CuboidAction {
+
+        void run(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax);
+    }
+
+    /**
+     * Reduction of a cuboid starting from an identity, bounds are inclusive.
+     */
+    @FunctionalInterface
+    interface CuboidReduction<T> {
+
+        T reduce(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, T identity);
+    }
+
+    private ParallelVolumeWork() {
+    }
+
+    /**
+     * Gets whether a cuboid of the given size should be worked on in
+     * parallel, given that every volume involved is a detached buffer.
+     *
+     * @param size The size of the cuboid
+     * @return Whether to split the work across the fork join pool
+     */
+    static boolean shouldRunParallel(Vector3i size) {
+        final long volume = (long) size.getX() * size.getY() * size.getZ();
+        return volume >= MIN_PARALLEL_VOLUME && volume <= Integer.MAX_VALUE
+               && ForkJoinPool.getCommonPoolParallelism() > 1
+               && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelVolumeWorkers();
+    }
+
+    /**
+     * Gets the index of a position relative to the minimum of a cuboid, in
+     * the same x, then y, then z order the sequential workers visit them.
+     */
+    static int index(Vector3i min, Vector3i size, int x, int y, int z) {
+        return (x - min.getX()) + size.getX() * ((y - min.getY()) + size.getY() * (z - min.getZ()));
+    }
+
+    static void forEach(Vector3i min, Vector3i max, CuboidAction action) {
+        ForkJoinPool.commonPool().invoke(new ActionTask(action, min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ()));
+    }
+
+    static <T> T reduce(Vector3i min, Vector3i max, CuboidReduction<T> reduction, BiFunction<T, T, T> merge, T identity) {
+        return ForkJoinPool.commonPool()
+                .invoke(new ReduceTask<>(reduction, merge, identity, min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ()));
+    }
+
+    private static long volume(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+        return (long) (xMax - xMin + 1) * (yMax - yMin + 1) * (zMax - zMin + 1);
+    }
+
+    /**
+     * Picks the axis to split on, the longest one, as 0 for x, 1 for y and 2 for z.
+     */
+    private static int splitAxis(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+        final int xSize = xMax - xMin;
+        final int ySize = yMax - yMin;
+        final int zSize = zMax - zMin;
+        if (zSize >= xSize && zSize >= ySize) {
+            return 2;
+        }
+        return ySize >= xSize ? 1 : 0;
+    }
+
+    private static final class ActionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CuboidAction action;
+        private final int xMin;
+        private final int yMin;
+        private final int zMin;
+        private final int xMax;
+        private final int yMax;
+        private final int zMax;
+
+        ActionTask(CuboidAction action, int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+            this.action = action;
+            this.xMin = xMin;
+            this.yMin = yMin;
+            this.zMin = zMin;
+            this.xMax = xMax;
+            this.yMax = yMax;
+            this.zMax = zMax;
+        }
+
+        @Override
+        protected void compute() {
+            if (volume(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax) <= LEAF_VOLUME) {
+                this.action.run(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax);
+                return;
+            }
+            final ForkJoinTask<Void> first;
+            final ForkJoinTask<Void> second;
+            switch (splitAxis(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax)) {
+                case 0: {
+                    final int mid = (this.xMin + this.xMax) >>> 1;
+                    first = new ActionTask(this.action, this.xMin, this.yMin, this.zMin, mid, this.yMax, this.zMax);
+                    second = new ActionTask(this.action, mid + 1, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax);
+                    break;
+                }
+                case 1: {
+                    final int mid = (this.yMin + this.yMax) >>> 1;
+                    first = new ActionTask(this.action, this.xMin, this.yMin, this.zMin, this.xMax, mid, this.zMax);
+                    second = new ActionTask(this.action, this.xMin, mid + 1, this.zMin, this.xMax, this.yMax, this.zMax);
+                    break;
+                }
+                default: {
+                    final int mid = (this.zMin + this.zMax) >>> 1;
+                    first = new ActionTask(this.action, this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, mid);
+                    second = new ActionTask(this.action, this.xMin, this.yMin, mid + 1, this.xMax, this.yMax, this.zMax);
+                    break;
+                }
+            }
+            invokeAll(first, second);
+        }
+    }
+
+    private static final class ReduceTask<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CuboidReduction<T> reduction;
+        private final BiFunction<T, T, T> merge;
+        private final T identity;
+        private final int xMin;
+        private final int yMin;
+        private final int zMin;
+        private final int xMax;
+        private final int yMax;
+        private final int zMax;
+
+        ReduceTask(CuboidReduction<T> reduction, BiFunction<T, T, T> merge, T identity, int xMin, int yMin, int zMin, int xMax, int yMax,
+                int zMax) {
+            this.reduction = reduction;
+            this.merge = merge;
+            this.identity = identity;
+            this.xMin = xMin;
+            this.yMin = yMin;
+            this.zMin = zMin;
+            this.xMax = xMax;
+            this.yMax = yMax;
+            this.zMax = zMax;
+        }
+
+        @Override
+        protected T compute() {
+            if (volume(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax) <= LEAF_VOLUME) {
+                return this.reduction.reduce(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax, this.identity);
+            }
+            final ReduceTask<T> first;
+            final ReduceTask<T> second;
+            switch (splitAxis(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax)) {
+                case 0: {
+                    final int mid = (this.xMin + this.xMax) >>> 1;
+                    first = this.child(this.xMin, this.yMin, this.zMin, mid, this.yMax, this.zMax);
+                    second = this.child(mid + 1, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax);
+                    break;
+                }
+                case 1: {
+                    final int mid = (this.yMin + this.yMax) >>> 1;
+                    first = this.child(this.xMin, this.yMin, this.zMin, this.xMax, mid, this.zMax);
+                    second = this.child(this.xMin, mid + 1, this.zMin, this.xMax, this.yMax, this.zMax);
+                    break;
+                }
+                default: {
+                    final int mid = (this.zMin + this.zMax) >>> 1;
+                    first = this.child(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, mid);
+                    second = this.child(this.xMin, this.yMin, mid + 1, this.xMax, this.yMax, this.zMax);
+                    break;
+                }
+            }
+            second.fork();
+            final T firstResult = first.compute();
+            // Merge in order, the first half always holds the lower coordinates
+            return this.merge.apply(firstResult, second.join());
+        }
+
+        private ReduceTask<T> child(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+            return new ReduceTask<>(this.reduction, this.merge, this.identity, xMin, yMin, zMin, xMax, yMax, zMax);
+        }
+    }
+}
@@ -36,6 +36,7 @@
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeReducer;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeVisitor;
+import org.spongepowered.common.util.gen.AbstractBiomeBuffer;
 
 import java.util.function.BiFunction;
 
@@ -68,6 +69,19 @@ public void map(BiomeVolumeMapper mapper, MutableBiomeVolume destination) {
         final int xMax = unmodifiableArea.getBiomeMax().getX();
         final int yMax = unmodifiableArea.getBiomeMax().getY();
         final int zMax = unmodifiableArea.getBiomeMax().getZ();
+        if (this.canRunParallel(this.volume, destination)) {
+            // Mappers run across the pool, the writes stay on this thread since buffers are not safe for concurrent writes
+            final BiomeType[] mapped = this.collectParallel(unmodifiableArea, (x, y, z) -> mapper.map(unmodifiableArea, x, y, z));
+            int index = 0;
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        destination.setBiome(x + xOffset, y + yOffset, z + zOffset, mapped[index++]);
+                    }
+                }
+            }
+            return;
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
@@ -96,6 +110,20 @@ public void merge(BiomeVolume second, BiomeVolumeMerger merger, MutableBiomeVolu
         final int yMax = firstUnmodifiableArea.getBiomeMax().getY();
         final int zMax = firstUnmodifiableArea.getBiomeMax().getZ();
         final UnmodifiableBiomeVolume secondUnmodifiableArea = second.getUnmodifiableBiomeView();
+        if (this.canRunParallel(second, destination)) {
+            final BiomeType[] merged = this.collectParallel(firstUnmodifiableArea,
+                    (x, y, z) -> merger.merge(firstUnmodifiableArea, x, y, z, secondUnmodifiableArea, x + xOffsetSecond, y + yOffsetSecond,
+                            z + zOffsetSecond));
+            int index = 0;
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        destination.setBiome(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, merged[index++]);
+                    }
+                }
+            }
+            return;
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
@@ -133,6 +161,20 @@ public <T> T reduce(BiomeVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableArea.getBiomeMax().getX();
         final int yMax = unmodifiableArea.getBiomeMax().getY();
         final int zMax = unmodifiableArea.getBiomeMax().getZ();
+        if (this.volume instanceof AbstractBiomeBuffer && ParallelVolumeWork.shouldRunParallel(this.volume.getBiomeSize())) {
+            return ParallelVolumeWork.reduce(unmodifiableArea.getBiomeMin(), unmodifiableArea.getBiomeMax(),
+                    (x0, y0, z0, x1, y1, z1, start) -> {
+                        T partial = start;
+                        for (int z = z0; z <= z1; z++) {
+                            for (int y = y0; y <= y1; y++) {
+                                for (int x = x0; x <= x1; x++) {
+                                    partial = reducer.reduce(unmodifiableArea, x, y, z, partial);
+                                }
+                            }
+                        }
+                        return partial;
+                    }, merge, identity);
+        }
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
@@ -144,6 +186,39 @@ public <T> T reduce(BiomeVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         return reduction;
     }
 
+    /**
+     * Gets whether work involving the given volumes can be split across the
+     * fork join pool. Only detached buffers qualify, and a destination that
+     * is also read from is left to the sequential path.
+     */
+    private boolean canRunParallel(BiomeVolume source, MutableBiomeVolume destination) {
+        return this.volume instanceof AbstractBiomeBuffer && source instanceof AbstractBiomeBuffer && destination instanceof AbstractBiomeBuffer
+               && destination != this.volume && destination != source
+               && ParallelVolumeWork.shouldRunParallel(this.volume.getBiomeSize());
+    }
+
+    private BiomeType[] collectParallel(UnmodifiableBiomeVolume source, PositionFunction function) {
+        final Vector3i min = source.getBiomeMin();
+        final Vector3i size = source.getBiomeSize();
+        final BiomeType[] results = new BiomeType[size.getX() * size.getY() * size.getZ()];
+        ParallelVolumeWork.forEach(min, source.getBiomeMax(), (x0, y0, z0, x1, y1, z1) -> {
+            for (int z = z0; z <= z1; z++) {
+                for (int y = y0; y <= y1; y++) {
+                    for (int x = x0; x <= x1; x++) {
+                        results[ParallelVolumeWork.index(min, size, x, y, z)] = function.apply(x, y, z);
+                    }
+                }
+            }
+        });
+        return results;
+    }
+
+    @FunctionalInterface
+    private interface PositionFunction {
+
+        BiomeType apply(int x, int y, int z);
+    }
+
     private Vector3i align(BiomeVolume other) {
         final Vector3i thisSize = this.volume.getBiomeSize();
         final Vector3i otherSize = other.getBiomeSize();
@@ -40,6 +40,7 @@
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.util.gen.AbstractBlockBuffer;
 
 import java.util.function.BiFunction;
 
@@ -72,6 +73,20 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        if (this.canRunParallel(this.volume, destination)) {
+            // Mappers run across the pool, the writes stay on this thread since buffers are not safe for concurrent writes
+            final BlockState[] mapped = this.collectParallel(unmodifiableVolume,
+                (x, y, z) -> mapper.map(unmodifiableVolume, x, y, z));
+            int index = 0;
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, mapped[index++]);
+                    }
+                }
+            }
+            return;
+        }
         // a single go, requiring only one event
         try (BasicPluginContext phaseState = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)) {
@@ -106,6 +121,20 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         final int yMax = firstUnmodifiableVolume.getBlockMax().getY();
         final int zMax = firstUnmodifiableVolume.getBlockMax().getZ();
         final UnmodifiableBlockVolume secondUnmodifiableVolume = second.getUnmodifiableBlockView();
+        if (this.canRunParallel(second, destination)) {
+            final BlockState[] merged = this.collectParallel(firstUnmodifiableVolume,
+                (x, y, z) -> merger.merge(firstUnmodifiableVolume, x, y, z,
+                    secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond));
+            int index = 0;
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, merged[index++]);
+                    }
+                }
+            }
+            return;
+        }
         try (BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)) {
             context.buildAndSwitch();
@@ -152,6 +181,20 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        if (this.volume instanceof AbstractBlockBuffer && ParallelVolumeWork.shouldRunParallel(this.volume.getBlockSize())) {
+            return ParallelVolumeWork.reduce(unmodifiableVolume.getBlockMin(), unmodifiableVolume.getBlockMax(),
+                (x0, y0, z0, x1, y1, z1, start) -> {
+                    T partial = start;
+                    for (int z = z0; z <= z1; z++) {
+                        for (int y = y0; y <= y1; y++) {
+                            for (int x = x0; x <= x1; x++) {
+                                partial = reducer.reduce(unmodifiableVolume, x, y, z, partial);
+                            }
+                        }
+                    }
+                    return partial;
+                }, merge, identity);
+        }
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
@@ -163,6 +206,40 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         return reduction;
     }
 
+    /**
+     * Gets whether work involving the given volumes can be split across the
+     * fork join pool. Only detached buffers qualify, live extents keep the
+     * phase tracked path on the calling thread, and a destination that is
+     * also read from is left to the sequential path.
+     */
+    private boolean canRunParallel(BlockVolume source, MutableBlockVolume destination) {
+        return this.volume instanceof AbstractBlockBuffer && source instanceof AbstractBlockBuffer && destination instanceof AbstractBlockBuffer
+               && destination != this.volume && destination != source
+               && ParallelVolumeWork.shouldRunParallel(this.volume.getBlockSize());
+    }
+
+    private BlockState[] collectParallel(UnmodifiableBlockVolume source, PositionFunction function) {
+        final Vector3i min = source.getBlockMin();
+        final Vector3i size = source.getBlockSize();
+        final BlockState[] results = new BlockState[size.getX() * size.getY() * size.getZ()];
+        ParallelVolumeWork.forEach(min, source.getBlockMax(), (x0, y0, z0, x1, y1, z1) -> {
+            for (int z = z0; z <= z1; z++) {
+                for (int y = y0; y <= y1; y++) {
+                    for (int x = x0; x <= x1; x++) {
+                        results[ParallelVolumeWork.index(min, size, x, y, z)] = function.apply(x, y, z);
+                    }
+                }
+            }
+        });
+        return results;
+    }
+
+    @FunctionalInterface
+    private interface PositionFunction {
+
+        BlockState apply(int x, int y, int z);
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
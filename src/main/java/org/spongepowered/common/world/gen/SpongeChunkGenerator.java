@@ -95,6 +95,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -121,6 +122,7 @@ public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator {
 
     protected Map<String, Timing> populatorTimings = Maps.newHashMap();
     protected Timing chunkGeneratorTiming;
+    @Nullable private final TerrainPrefetcher prefetcher;
 
     public SpongeChunkGenerator(World world, GenerationPopulator base, BiomeGenerator biomegen) {
         this.world = checkNotNull(world, "world");
@@ -136,6 +138,8 @@ public SpongeChunkGenerator(World world, GenerationPopulator base, BiomeGenerato
         this.rand = new Random(world.getSeed());
         this.noise4 = new NoiseGeneratorPerlin(this.rand, 4);
         this.stoneNoise = new double[256];
+        this.prefetcher = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncGenerationPopulators()
+                ? new TerrainPrefetcher(this) : null;
 
         this.world.provider.biomeProvider = CustomBiomeProvider.of(this.biomeGenerator);
         if (this.baseGenerator instanceof IChunkProviderOverworld) {
@@ -235,8 +239,37 @@ public List<Populator> getPopulators(Class<? extends Populator> type) {
         return this.pop.stream().filter((p) -> type.isAssignableFrom(p.getClass())).collect(Collectors.toList());
     }
 
+    /**
+     * Requests the base terrain of a chunk to be generated ahead of time on
+     * a worker thread, if enabled and all generation populators of the chunk
+     * are thread safe. The terrain is used once the chunk is generated.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return False if no more chunks can be generated ahead of time currently
+     */
+    public boolean prefetchChunk(int chunkX, int chunkZ) {
+        return this.prefetcher != null && this.prefetcher.prefetch(chunkX, chunkZ);
+    }
+
+    /**
+     * Requests the chunks that players are about to see to be generated
+     * ahead of time and drops the terrain that wasn't used in time.
+     */
+    public void updatePrefetchedChunks() {
+        if (this.prefetcher != null) {
+            this.prefetcher.update();
+        }
+    }
+
     @Override
     public Chunk generateChunk(int chunkX, int chunkZ) {
+        if (this.prefetcher != null) {
+            final Chunk chunk = this.prefetcher.getPrefetchedChunk(chunkX, chunkZ);
+            if (chunk != null) {
+                return chunk;
+            }
+        }
         this.rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
         this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
         this.biomeGenerator.generateBiomes(this.cachedBiomes);
@@ -535,14 +568,25 @@ public void recreateStructures(Chunk chunkIn, int x, int z) {
     }
 
     public void replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrimer chunk, ImmutableBiomeVolume biomes) {
+        this.replaceBiomeBlocks(world, rand, x, z, chunk, biomes, this.stoneNoise, this::getBiomeSettings);
+    }
+
+    /**
+     * Replaces the stone of the chunk with the ground cover layers of its
+     * biomes. Only the noise generator is shared between calls, so this can
+     * be called from multiple threads as long as each passes its own noise
+     * array and settings.
+     */
+    void replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrimer chunk, ImmutableBiomeVolume biomes, double[] stoneNoise,
+            Function<BiomeType, BiomeGenerationSettings> biomeSettings) {
         double d0 = 0.03125D;
-        this.stoneNoise = this.noise4.getRegion(this.stoneNoise, x * 16, z * 16, 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
+        stoneNoise = this.noise4.getRegion(stoneNoise, x * 16, z * 16, 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
         Vector3i min = biomes.getBiomeMin();
         for (int x0 = 0; x0 < 16; ++x0) {
             for (int z0 = 0; z0 < 16; ++z0) {
                 BiomeType biomegenbase = biomes.getBiome(min.getX() + x0, 0, min.getZ() + z0);
-                this.generateBiomeTerrain(world, rand, chunk, x * 16 + x0, z * 16 + z0, this.stoneNoise[x0 + z0 * 16],
-                        this.getBiomeSettings(biomegenbase).getGroundCoverLayers());
+                this.generateBiomeTerrain(world, rand, chunk, x * 16 + x0, z * 16 + z0, stoneNoise[x0 + z0 * 16],
+                        biomeSettings.apply(biomegenbase).getGroundCoverLayers());
             }
         }
     }
@@ -0,0 +1,301 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkPrimer;
+import org.spongepowered.api.world.biome.BiomeGenerationSettings;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.gen.GenerationPopulator;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncGenerationPopulatorCategory;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.gen.IThreadSafeGenerationPopulator;
+import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
+import org.spongepowered.common.util.gen.ObjectArrayMutableBiomeBuffer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+import javax.annotation.Nullable;
+
+/**
+ * Generates the base terrain of chunks that are likely to be requested soon
+ * on worker threads, so {@link SpongeChunkGenerator#generateChunk(int, int)}
+ * only has to assemble the chunk. Biomes are generated on the main thread
+ * when a chunk is requested, because the biome generators share caches
+ * between chunks, the block buffer is filled on a worker thread by the base
+ * generator and generation populators, which all have to be declared thread
+ * safe. Populators always run on the main thread.
+ *
+ * <p>All methods must be called from the main thread.</p>
+ */
+final class TerrainPrefetcher {
+
+    private static final Vector3i CHUNK_AREA = new Vector3i(16, 1, 16);
+    // The number of ticks between requesting the chunks players are about to see
+    private static final int PLAYER_PREFETCH_INTERVAL = 10;
+    // The number of ticks after which terrain that wasn't used is dropped
+    private static final int EXPIRE_TICKS = 20 * 60;
+    // sin(22.5 degrees), the direction a player looks in is snapped to eight directions
+    private static final double DIRECTION_THRESHOLD = 0.3827D;
+
+    @Nullable private static ExecutorService executor;
+
+    private final SpongeChunkGenerator generator;
+    private final int maxPendingChunks;
+    private final Set<String> threadSafePopulators;
+    private final Long2ObjectMap<PrefetchedTerrain> pending = new Long2ObjectOpenHashMap<>();
+    // Chunks with a generation populator that isn't thread safe, cleared whenever players are checked
+    private final LongOpenHashSet rejected = new LongOpenHashSet();
+
+    TerrainPrefetcher(SpongeChunkGenerator generator) {
+        final AsyncGenerationPopulatorCategory category =
+                SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncGenerationPopulatorCategory();
+        this.generator = generator;
+        this.maxPendingChunks = category.getMaxPendingChunks();
+        this.threadSafePopulators = ImmutableSet.copyOf(category.getThreadSafePopulators());
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Math.max(1, category.getNumThreads()),
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Terrain Generation Thread #%d").setDaemon(true).build());
+        }
+    }
+
+    /**
+     * Requests the base terrain of a chunk to be generated on a worker
+     * thread. Chunks that are already loaded or that have a generation
+     * populator that isn't thread safe are ignored.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return False if the maximum number of pending chunks is reached
+     */
+    boolean prefetch(int chunkX, int chunkZ) {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        if (this.pending.containsKey(key) || this.rejected.contains(key)) {
+            return true;
+        }
+        if (this.pending.size() >= this.maxPendingChunks) {
+            return false;
+        }
+        if (((WorldServer) this.generator.world).getChunkProvider().id2ChunkMap.containsKey(key)) {
+            return true;
+        }
+
+        // The base generator of vanilla and mod worlds builds a whole chunk, which can't be done off the main thread
+        final GenerationPopulator baseGenerator = this.generator.baseGenerator;
+        if (baseGenerator instanceof SpongeGenerationPopulator || !isThreadSafe(baseGenerator)
+                || !areThreadSafe(this.generator.genpop)) {
+            this.rejected.add(key);
+            return true;
+        }
+
+        final ObjectArrayMutableBiomeBuffer biomes = new ObjectArrayMutableBiomeBuffer(new Vector3i(chunkX * 16, 0, chunkZ * 16), CHUNK_AREA);
+        this.generator.biomeGenerator.generateBiomes(biomes);
+
+        // Resolve the settings of the unique biomes here, they are created on demand
+        final Map<BiomeType, BiomeGenerationSettings> biomeSettings = Maps.newLinkedHashMap();
+        final ImmutableList.Builder<GenerationPopulator> populators = ImmutableList.builder();
+        populators.addAll(this.generator.genpop);
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                final BiomeType biome = biomes.getBiome(chunkX * 16 + x, 0, chunkZ * 16 + z);
+                if (!biomeSettings.containsKey(biome)) {
+                    final BiomeGenerationSettings settings = this.generator.getBiomeSettings(biome);
+                    if (!areThreadSafe(settings.getGenerationPopulators())) {
+                        this.rejected.add(key);
+                        return true;
+                    }
+                    biomeSettings.put(biome, settings);
+                    populators.addAll(settings.getGenerationPopulators());
+                }
+            }
+        }
+
+        final PrefetchedTerrain terrain = new PrefetchedTerrain(chunkX, chunkZ, baseGenerator, populators.build(), biomes,
+                biomes.getImmutableBiomeCopy(), biomeSettings, this.generator.world.getTotalWorldTime());
+        this.pending.put(key, terrain);
+        executor.execute(terrain);
+        return true;
+    }
+
+    /**
+     * Gets the chunk built from the terrain that was generated ahead of time,
+     * waiting for the worker thread if it is still generating.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The chunk, or null if it has to be generated on the main thread
+     */
+    @Nullable
+    Chunk getPrefetchedChunk(int chunkX, int chunkZ) {
+        if (this.pending.isEmpty()) {
+            return null;
+        }
+        final PrefetchedTerrain terrain = this.pending.remove(ChunkPos.asLong(chunkX, chunkZ));
+        // Don't wait for terrain that no worker started on yet
+        if (terrain == null || terrain.cancel(false)) {
+            return null;
+        }
+        final ChunkPrimer chunkprimer;
+        try {
+            chunkprimer = terrain.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            SpongeImpl.getLogger().error("Could not generate the terrain of chunk ({}, {}) ahead of time, generating it again.",
+                    chunkX, chunkZ, e.getCause());
+            return null;
+        }
+        final Chunk chunk = new Chunk(this.generator.world, chunkprimer, chunkX, chunkZ);
+        terrain.biomes.fill(chunk.getBiomeArray());
+        chunk.generateSkylightMap();
+        return chunk;
+    }
+
+    /**
+     * Drops the terrain that wasn't requested in time and requests the
+     * chunks that players are about to see, which are the chunks right
+     * outside of the view distance in the direction they look in.
+     */
+    void update() {
+        final long now = this.generator.world.getTotalWorldTime();
+        if (!this.pending.isEmpty()) {
+            for (Iterator<PrefetchedTerrain> it = this.pending.values().iterator(); it.hasNext(); ) {
+                final PrefetchedTerrain terrain = it.next();
+                if (now - terrain.scheduledTick > EXPIRE_TICKS) {
+                    terrain.cancel(false);
+                    it.remove();
+                }
+            }
+        }
+        if (now % PLAYER_PREFETCH_INTERVAL != 0 || this.generator.world.playerEntities.isEmpty()) {
+            return;
+        }
+        this.rejected.clear();
+
+        final int viewDistance = ((org.spongepowered.api.world.World) this.generator.world).getViewDistance();
+        final Object storage = ((org.spongepowered.api.world.World) this.generator.world).getWorldStorage();
+        final IMixinAnvilChunkLoader chunkLoader = storage instanceof IMixinAnvilChunkLoader ? (IMixinAnvilChunkLoader) storage : null;
+        for (EntityPlayer player : this.generator.world.playerEntities) {
+            final int chunkX = MathHelper.floor(player.posX) >> 4;
+            final int chunkZ = MathHelper.floor(player.posZ) >> 4;
+            final float yaw = player.rotationYaw * 0.017453292F;
+            final double directionX = -MathHelper.sin(yaw);
+            final double directionZ = MathHelper.cos(yaw);
+            if (directionX > DIRECTION_THRESHOLD || directionX < -DIRECTION_THRESHOLD) {
+                final int x = chunkX + (directionX > 0 ? viewDistance + 1 : -viewDistance - 1);
+                for (int z = chunkZ - viewDistance; z <= chunkZ + viewDistance; z++) {
+                    if (!prefetchIfMissing(chunkLoader, x, z)) {
+                        return;
+                    }
+                }
+            }
+            if (directionZ > DIRECTION_THRESHOLD || directionZ < -DIRECTION_THRESHOLD) {
+                final int z = chunkZ + (directionZ > 0 ? viewDistance + 1 : -viewDistance - 1);
+                for (int x = chunkX - viewDistance; x <= chunkX + viewDistance; x++) {
+                    if (!prefetchIfMissing(chunkLoader, x, z)) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean prefetchIfMissing(@Nullable IMixinAnvilChunkLoader chunkLoader, int chunkX, int chunkZ) {
+        if (chunkLoader != null && chunkLoader.chunkExists(this.generator.world, chunkX, chunkZ)) {
+            return true;
+        }
+        return prefetch(chunkX, chunkZ);
+    }
+
+    private boolean areThreadSafe(List<GenerationPopulator> populators) {
+        for (GenerationPopulator populator : populators) {
+            if (!isThreadSafe(populator)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isThreadSafe(GenerationPopulator populator) {
+        return populator instanceof IThreadSafeGenerationPopulator || this.threadSafePopulators.contains(populator.getClass().getName());
+    }
+
+    /**
+     * Generates the base terrain of a chunk the same way
+     * {@link SpongeChunkGenerator#generateChunk(int, int)} does, but only
+     * with state that belongs to this chunk.
+     */
+    private ChunkPrimer generateTerrain(int chunkX, int chunkZ, GenerationPopulator baseGenerator, List<GenerationPopulator> populators,
+            ImmutableBiomeVolume biomeBuffer, Map<BiomeType, BiomeGenerationSettings> biomeSettings) {
+        final org.spongepowered.api.world.World world = (org.spongepowered.api.world.World) this.generator.world;
+        final Random rand = new Random(chunkX * 341873128712L + chunkZ * 132897987541L);
+        final ChunkPrimer chunkprimer = new ChunkPrimer();
+        final MutableBlockVolume blockBuffer = new ChunkPrimerBuffer(chunkprimer, chunkX, chunkZ);
+        baseGenerator.populate(world, blockBuffer, biomeBuffer);
+        this.generator.replaceBiomeBlocks(this.generator.world, rand, chunkX, chunkZ, chunkprimer, biomeBuffer, new double[256], biomeSettings::get);
+        for (GenerationPopulator populator : populators) {
+            populator.populate(world, blockBuffer, biomeBuffer);
+        }
+        return chunkprimer;
+    }
+
+    private final class PrefetchedTerrain extends FutureTask<ChunkPrimer> {
+
+        final ObjectArrayMutableBiomeBuffer biomes;
+        final long scheduledTick;
+
+        PrefetchedTerrain(int chunkX, int chunkZ, GenerationPopulator baseGenerator, List<GenerationPopulator> populators,
+                ObjectArrayMutableBiomeBuffer biomes, ImmutableBiomeVolume biomeBuffer, Map<BiomeType, BiomeGenerationSettings> biomeSettings,
+                long scheduledTick) {
+            super(() -> generateTerrain(chunkX, chunkZ, baseGenerator, populators, biomeBuffer, biomeSettings));
+            this.biomes = biomes;
+            this.scheduledTick = scheduledTick;
+        }
+    }
+}
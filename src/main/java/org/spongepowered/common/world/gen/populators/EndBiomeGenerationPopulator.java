@@ -30,9 +30,9 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
-import org.spongepowered.api.world.gen.GenerationPopulator;
+import org.spongepowered.common.interfaces.world.gen.IThreadSafeGenerationPopulator;
 
-public class EndBiomeGenerationPopulator implements GenerationPopulator {
+public class EndBiomeGenerationPopulator implements IThreadSafeGenerationPopulator {
 
     @Override
     public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes) {
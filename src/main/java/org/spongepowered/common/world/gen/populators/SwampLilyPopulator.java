@@ -30,11 +30,11 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
-import org.spongepowered.api.world.gen.GenerationPopulator;
+import org.spongepowered.common.interfaces.world.gen.IThreadSafeGenerationPopulator;
 
 import java.util.Random;
 
-public class SwampLilyPopulator implements GenerationPopulator {
+public class SwampLilyPopulator implements IThreadSafeGenerationPopulator {
 
     private NoiseGeneratorPerlin noise = new NoiseGeneratorPerlin(new Random(2345L), 1);
 
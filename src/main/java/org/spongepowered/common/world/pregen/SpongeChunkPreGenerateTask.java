@@ -30,6 +30,12 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.AbstractLongComparator;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.IChunkGenerator;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -43,16 +49,18 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -71,7 +79,9 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     private final Scheduler scheduler;
 
     private final World world;
-    private final Predicate<Vector3i> doesChunkExistCheck;
+    @Nullable private final IMixinAnvilChunkLoader chunkLoader;
+    // The chunks that exist per region, read from the region header once per region
+    private final Long2ObjectMap<BitSet> existingChunksByRegion = new Long2ObjectOpenHashMap<>();
     private final int chunkRadius;
     private final int chunkCount;
     private final float tickPercent;
@@ -91,6 +101,16 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     private int currentIndex;
     private int nextJump;
 
+    // Region ordered generation, the regions overlapping the area sorted by their distance to the center.
+    // Each region is processed in windows of 2x2 chunks, so all chunks of a window are loaded together.
+    @Nullable private final long[] regions;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int maxChunkX;
+    private final int maxChunkZ;
+    private int regionIndex;
+    private int windowIndex;
+
     private int chunksSkipped = 0;
     private int chunksGenerated = 0;
 
@@ -115,10 +135,9 @@ private SpongeChunkPreGenerateTask(Object plugin,
         //
         // This also allows us to catch non Anvil file formats too.
         if (world.getWorldStorage() instanceof IMixinAnvilChunkLoader) {
-            this.doesChunkExistCheck = v -> ((IMixinAnvilChunkLoader) world.getWorldStorage())
-                    .chunkExists((net.minecraft.world.World) this.world, v.getX(), v.getZ());
+            this.chunkLoader = (IMixinAnvilChunkLoader) world.getWorldStorage();
         } else {
-            this.doesChunkExistCheck = v -> false;
+            this.chunkLoader = null;
         }
 
         this.chunkRadius = GenericMath.floor(diameter / 32);
@@ -140,6 +159,18 @@ private SpongeChunkPreGenerateTask(Object plugin,
 
         this.totalChunksToGenerate = (int) Math.pow(this.chunkRadius * 2 + 1, 2);
 
+        this.minChunkX = this.currentPosition.getX() - this.chunkRadius;
+        this.minChunkZ = this.currentPosition.getZ() - this.chunkRadius;
+        this.maxChunkX = this.currentPosition.getX() + this.chunkRadius;
+        this.maxChunkZ = this.currentPosition.getZ() + this.chunkRadius;
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useRegionOrderedChunkPreGeneration()) {
+            this.regions = createRegionOrder(this.currentPosition.getX(), this.currentPosition.getZ(),
+                    this.minChunkX, this.minChunkZ, this.maxChunkX, this.maxChunkZ);
+            advanceRegionWindow();
+        } else {
+            this.regions = null;
+        }
+
         this.spongeTask = this.scheduler
                 .createTaskBuilder()
                 .intervalTicks(tickInterval)
@@ -178,6 +209,35 @@ public int getTargetTotalChunks() {
         return this.totalChunksToGenerate;
     }
 
+    /**
+     * Gets the number of chunks that were generated or skipped per second
+     * since the generation started.
+     *
+     * @return The chunks per second
+     */
+    public double getChunksPerSecond() {
+        final long millis = getTotalTime().toMillis();
+        if (this.generationStartTime == 0 || millis <= 0) {
+            return 0;
+        }
+        return (this.chunksGenerated + this.chunksSkipped) * 1000.0 / millis;
+    }
+
+    /**
+     * Gets the estimated time until all chunks are generated, based on the
+     * {@link #getChunksPerSecond() chunks per second} so far.
+     *
+     * @return The estimated remaining time, if any chunks were processed yet
+     */
+    public Optional<Duration> getEstimatedTimeRemaining() {
+        final double chunksPerSecond = getChunksPerSecond();
+        if (chunksPerSecond <= 0) {
+            return Optional.empty();
+        }
+        final int remaining = Math.max(0, this.totalChunksToGenerate - this.chunksGenerated - this.chunksSkipped);
+        return Optional.of(Duration.ofMillis(Math.round(remaining * 1000.0 / chunksPerSecond)));
+    }
+
     @Override
     public Duration getTotalTime() {
         return Duration.of((isCancelled() ? this.generationEndTime : System.currentTimeMillis()) - this.generationStartTime, ChronoUnit.MILLIS);
@@ -239,6 +299,41 @@ public void accept(Task task) {
         int count = 0;
         int skipped = 0;
         do {
+            if (this.regions != null) {
+                // Generate the next window of the current region, only chunks in the area are counted
+                final long region = this.regions[this.regionIndex];
+                final int windowX = ((int) (region >> 32) << 5) + ((this.windowIndex & 15) << 1);
+                final int windowZ = ((int) region << 5) + ((this.windowIndex >> 4) << 1);
+                this.windowIndex++;
+
+                int missing = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int x = windowX + (i & 1);
+                    final int z = windowZ + (i >> 1);
+                    if (!doesChunkExist(x, z)) {
+                        missing |= 1 << i;
+                    } else if (isInArea(x, z)) {
+                        skipped++;
+                    }
+                }
+                if (missing != 0) {
+                    // At least one chunk isn't generated, so to populate, we need to load them all.
+                    for (int i = 0; i < 4; i++) {
+                        final int x = windowX + (i & 1);
+                        final int z = windowZ + (i >> 1);
+                        this.world.loadChunk(x, 0, z, true);
+                        if ((missing & 1 << i) != 0) {
+                            markChunkExists(x, z);
+                            if (isInArea(x, z)) {
+                                count++;
+                            }
+                        }
+                    }
+                }
+                advanceRegionWindow();
+                continue;
+            }
+
             final Vector3i position = nextChunkPosition();
             final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
             final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
@@ -252,6 +347,10 @@ public void accept(Task task) {
                 this.world.loadChunk(pos1, true);
                 this.world.loadChunk(pos2, true);
                 this.world.loadChunk(pos3, true);
+                markChunkExists(position.getX(), position.getZ());
+                markChunkExists(pos1.getX(), pos1.getZ());
+                markChunkExists(pos2.getX(), pos2.getZ());
+                markChunkExists(pos3.getX(), pos3.getZ());
 
                 count += this.currentGenCount;
             } else {
@@ -263,6 +362,9 @@ public void accept(Task task) {
 
         this.chunksGenerated += count;
         this.chunksSkipped += skipped;
+        if (this.regions != null) {
+            prefetchRegionWindows();
+        }
 
         final long deltaTime = System.currentTimeMillis() - stepStartTime;
         this.generationEndTime = System.currentTimeMillis();
@@ -295,8 +397,119 @@ public void accept(Task task) {
     }
 
     private boolean areAllChunksLoaded(Vector3i chunk1, Vector3i chunk2, Vector3i chunk3, Vector3i chunk4) {
-        return this.doesChunkExistCheck.test(chunk1) && this.doesChunkExistCheck.test(chunk2) &&
-                this.doesChunkExistCheck.test(chunk3) && this.doesChunkExistCheck.test(chunk4);
+        return doesChunkExist(chunk1.getX(), chunk1.getZ()) && doesChunkExist(chunk2.getX(), chunk2.getZ()) &&
+                doesChunkExist(chunk3.getX(), chunk3.getZ()) && doesChunkExist(chunk4.getX(), chunk4.getZ());
+    }
+
+    private boolean doesChunkExist(int x, int z) {
+        final BitSet existing = getExistingChunks(x >> 5, z >> 5);
+        return existing != null && existing.get((z & 31) << 5 | (x & 31));
+    }
+
+    private void markChunkExists(int x, int z) {
+        final BitSet existing = getExistingChunks(x >> 5, z >> 5);
+        if (existing != null) {
+            existing.set((z & 31) << 5 | (x & 31));
+        }
+    }
+
+    @Nullable
+    private BitSet getExistingChunks(int regionX, int regionZ) {
+        if (this.chunkLoader == null) {
+            return null;
+        }
+        final long key = (long) regionX << 32 | regionZ & 0xFFFFFFFFL;
+        BitSet existing = this.existingChunksByRegion.get(key);
+        if (existing == null) {
+            existing = this.chunkLoader.getExistingChunksInRegion(regionX, regionZ);
+            this.existingChunksByRegion.put(key, existing);
+        }
+        return existing;
+    }
+
+    private boolean isInArea(int x, int z) {
+        return x >= this.minChunkX && x <= this.maxChunkX && z >= this.minChunkZ && z <= this.maxChunkZ;
+    }
+
+    /**
+     * Moves to the next window of chunks that overlaps the area, starting
+     * with the current one.
+     */
+    private void advanceRegionWindow() {
+        while (this.regionIndex < this.regions.length) {
+            final long region = this.regions[this.regionIndex];
+            final int regionChunkX = (int) (region >> 32) << 5;
+            final int regionChunkZ = (int) region << 5;
+            while (this.windowIndex < 16 * 16) {
+                final int windowX = regionChunkX + ((this.windowIndex & 15) << 1);
+                final int windowZ = regionChunkZ + ((this.windowIndex >> 4) << 1);
+                if (windowX + 1 >= this.minChunkX && windowX <= this.maxChunkX && windowZ + 1 >= this.minChunkZ && windowZ <= this.maxChunkZ) {
+                    return;
+                }
+                this.windowIndex++;
+            }
+            this.regionIndex++;
+            this.windowIndex = 0;
+            // Windows never span multiple regions, the chunks of finished regions aren't needed anymore
+            this.existingChunksByRegion.clear();
+        }
+    }
+
+    /**
+     * Requests the missing chunks of the windows left in the current region
+     * to be generated ahead of time, until the generator doesn't accept
+     * more chunks.
+     */
+    private void prefetchRegionWindows() {
+        final IChunkGenerator chunkGenerator = ((WorldServer) this.world).getChunkProvider().chunkGenerator;
+        if (!(chunkGenerator instanceof SpongeChunkGenerator) || this.regionIndex >= this.regions.length) {
+            return;
+        }
+        final long region = this.regions[this.regionIndex];
+        final int regionChunkX = (int) (region >> 32) << 5;
+        final int regionChunkZ = (int) region << 5;
+        for (int window = this.windowIndex; window < 16 * 16; window++) {
+            final int windowX = regionChunkX + ((window & 15) << 1);
+            final int windowZ = regionChunkZ + ((window >> 4) << 1);
+            if (windowX + 1 < this.minChunkX || windowX > this.maxChunkX || windowZ + 1 < this.minChunkZ || windowZ > this.maxChunkZ) {
+                continue;
+            }
+            for (int i = 0; i < 4; i++) {
+                final int x = windowX + (i & 1);
+                final int z = windowZ + (i >> 1);
+                if (!doesChunkExist(x, z) && !((SpongeChunkGenerator) chunkGenerator).prefetchChunk(x, z)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static long[] createRegionOrder(int centerX, int centerZ, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        final int minRegionX = minChunkX >> 5;
+        final int minRegionZ = minChunkZ >> 5;
+        final int maxRegionX = maxChunkX >> 5;
+        final int maxRegionZ = maxChunkZ >> 5;
+        final long[] regions = new long[(maxRegionX - minRegionX + 1) * (maxRegionZ - minRegionZ + 1)];
+        int i = 0;
+        for (int regionZ = minRegionZ; regionZ <= maxRegionZ; regionZ++) {
+            for (int regionX = minRegionX; regionX <= maxRegionX; regionX++) {
+                regions[i++] = (long) regionX << 32 | regionZ & 0xFFFFFFFFL;
+            }
+        }
+        // Start with the regions closest to the center, like the spiral does
+        LongArrays.quickSort(regions, new AbstractLongComparator() {
+            @Override
+            public int compare(long a, long b) {
+                return Long.compare(distanceSquared(a), distanceSquared(b));
+            }
+
+            private long distanceSquared(long region) {
+                final long dx = ((int) (region >> 32) << 5) + 16 - centerX;
+                final long dz = ((int) region << 5) + 16 - centerZ;
+                return dx * dx + dz * dz;
+            }
+        });
+        return regions;
     }
 
     private void unregisterListener() {
@@ -317,6 +530,9 @@ private void cancelTask(Task task) {
     }
 
     private boolean hasNextChunkPosition() {
+        if (this.regions != null) {
+            return this.regionIndex < this.regions.length;
+        }
         return this.currentLayer <= this.chunkRadius;
     }
 
@@ -393,6 +609,14 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                                 100 * (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
                                     / post.getChunkPreGenerate().getTargetTotalChunks())
                         );
+                        if (post.getChunkPreGenerate() instanceof SpongeChunkPreGenerateTask) {
+                            final SpongeChunkPreGenerateTask task = (SpongeChunkPreGenerateTask) post.getChunkPreGenerate();
+                            final Optional<Duration> remaining = task.getEstimatedTimeRemaining();
+                            if (remaining.isPresent()) {
+                                logger.info("{} chunks per second, about {} remaining", String.format("%.1f", task.getChunksPerSecond()),
+                                    DurationFormatUtils.formatDurationWords(remaining.get().toMillis(), true, true));
+                            }
+                        }
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
                         logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
                             DurationFormatUtils.formatDuration(event.getChunkPreGenerate().getTotalTime().toMillis(), TIME_FORMAT, false));
@@ -24,126 +24,199 @@
  */
 package org.spongepowered.common.world.storage;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.Lists;
 import net.minecraft.world.chunk.storage.RegionFile;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Set;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Streams every saved chunk of a world by reading its region files. Each
+ * chunk is copied out of its {@link RegionFile} while holding the lock of
+ * the region file, so chunks that are saved at the same time are never read
+ * half written. Chunks ahead of the one being returned are decompressed and
+ * translated in parallel on the region reader pool, while the stream still
+ * returns them in region file order.
+ *
+ * <p>Region files are shared with the server through the region file cache,
+ * which closes every open region once it holds too many. The stream only
+ * opens the next region once every read of the current one finished, and a
+ * read that finds its region closed opens it again.</p>
+ */
 public class SpongeChunkDataStream implements ChunkDataStream {
 
-    private static class RegionFileItr {
+    private static final int CHUNKS_PER_REGION = 32 * 32;
+    private static final int PREFETCH_COUNT = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
 
-        private final RegionFile file;
-        public int index;
+    private final Path worldDir;
+    private final Deque<CompletableFuture<DataContainer>> prefetched = new ArrayDeque<>(PREFETCH_COUNT);
+    @Nullable private List<Path> regionFiles;
+    private int nextRegionFile;
+    @Nullable private Path regionPath;
+    @Nullable private RegionFile region;
+    private int[] regionChunks = new int[0];
+    private int nextRegionChunk;
 
-        public RegionFileItr(RegionFile regionFile) {
-            this.file = regionFile;
+    public SpongeChunkDataStream(Path worldDir) {
+        this.worldDir = worldDir;
+    }
+
+    private List<Path> getRegionFiles() {
+        if (this.regionFiles == null) {
+            this.regionFiles = Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir));
         }
+        return this.regionFiles;
+    }
 
-        public int getNext() {
-            int index = this.index;
-            int[] offsets = this.file.offsets;
-            while (index != -1 && index < offsets.length && offsets[index] == 0) {
-                index++;
-            }
-            if (index >= offsets.length) {
-                return -1;
+    private boolean advanceRegion() {
+        final List<Path> files = this.getRegionFiles();
+        while (this.nextRegionFile < files.size()) {
+            this.regionPath = files.get(this.nextRegionFile++);
+            this.region = WorldStorageUtil.getRegionFile(this.regionPath);
+            // The offset table is only read once per region
+            this.regionChunks = getChunkIndices(this.region);
+            this.nextRegionChunk = 0;
+            if (this.regionChunks.length != 0) {
+                return true;
             }
-            return index;
         }
+        this.regionPath = null;
+        this.region = null;
+        return false;
+    }
 
-        public DataInputStream getStreamAt(int index) {
-            int x = index & 31;
-            int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
+    private void prefetch() {
+        while (this.prefetched.size() < PREFETCH_COUNT) {
+            if (this.region == null || this.nextRegionChunk >= this.regionChunks.length) {
+                // Opening the next region may close the current one, wait
+                // until its reads are done
+                if (!this.prefetched.isEmpty() || !this.advanceRegion()) {
+                    return;
+                }
+            }
+            final Path regionPath = this.regionPath;
+            final RegionFile region = this.region;
+            final int index = this.regionChunks[this.nextRegionChunk++];
+            this.prefetched.add(CompletableFuture.supplyAsync(() -> read(regionPath, region, index), WorldStorageUtil.REGION_READ_EXECUTOR));
         }
-
     }
 
-    private final Set<Path> openedFiles = Sets.newHashSet();
-    private RegionFileItr regionFileItr;
-    private final Path worldDir;
-
-    public SpongeChunkDataStream(Path worldDir) {
-        this.worldDir = worldDir;
+    /**
+     * Gets the indices of every saved chunk of the region, {@code x + z * 32}
+     * in region coordinates, in the order of the offset table.
+     */
+    private static int[] getChunkIndices(RegionFile region) {
+        final int[] indices = new int[CHUNKS_PER_REGION];
+        int count = 0;
+        for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+            if (region.isChunkSaved(index & 31, index >> 5)) {
+                indices[count++] = index;
+            }
+        }
+        final int[] present = new int[count];
+        System.arraycopy(indices, 0, present, 0, count);
+        return present;
     }
 
-    private boolean itrAvailable() {
-        if (this.regionFileItr != null) {
-            return true;
+    /**
+     * Counts the saved chunks of a region file from its offset table, without
+     * opening it through the region file cache.
+     */
+    private static int countChunks(Path regionFile) {
+        final ByteBuffer offsets = ByteBuffer.allocate(CHUNKS_PER_REGION * 4);
+        try (FileChannel channel = FileChannel.open(regionFile, StandardOpenOption.READ)) {
+            while (offsets.hasRemaining() && channel.read(offsets) != -1) {
+                // Read the whole offset table
+            }
+        } catch (IOException e) {
+            return 0;
         }
-        Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
-        for (Path file : files) {
-            if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
-                this.openedFiles.add(file);
-                return true;
+        offsets.flip();
+        int count = 0;
+        while (offsets.remaining() >= 4) {
+            if (offsets.getInt() != 0) {
+                count++;
             }
         }
-        return false;
+        return count;
     }
 
-    private int getNextIndex() {
-        int next;
-        while (itrAvailable()) {
-            if ((next = this.regionFileItr.getNext()) == -1) {
-                this.regionFileItr = null;
-            } else {
-                return next;
-            }
+    @Nullable
+    private static DataContainer read(Path regionPath, RegionFile region, int index) {
+        // The compressed chunk is copied under the lock of the region file, only decompression runs in parallel
+        DataInputStream stream = region.getChunkDataInputStream(index & 31, index >> 5);
+        if (stream == null) {
+            // The region file cache may have closed the region since, it is opened again if so
+            stream = WorldStorageUtil.getRegionFile(regionPath).getChunkDataInputStream(index & 31, index >> 5);
+        }
+        try (DataInputStream in = stream) {
+            return WorldStorageUtil.readDataFromRegion(in);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
-        return -1;
     }
 
     @Override
     public DataContainer next() {
-        int next = getNextIndex();
-        if (next == -1) {
+        this.prefetch();
+        final CompletableFuture<DataContainer> next = this.prefetched.poll();
+        if (next == null) {
             throw new NoSuchElementException();
         }
-        this.regionFileItr.index = next + 1;
-        DataInputStream stream = this.regionFileItr.getStreamAt(next);
+        final DataContainer data;
         try {
-            return WorldStorageUtil.readDataFromRegion(stream);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            data = next.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
         }
+        // Keep the pool busy while the caller works on this chunk. This only
+        // happens once the chunk was read, as it may open the next region.
+        this.prefetch();
+        return data;
     }
 
     @Override
     public boolean hasNext() {
-        return getNextIndex() != -1;
+        this.prefetch();
+        return !this.prefetched.isEmpty();
     }
 
     @Override
     public int available() {
-        // Advance to the end of the stream, counting along the way. Store
-        // previous state and reset to it afterwards.
-        RegionFileItr currentItr = this.regionFileItr;
-        Set<Path> currentOpenedFiles = Sets.newHashSet(this.openedFiles);
-        int count = 0;
-        int index = getNextIndex();
-        while (index != -1) {
-            count++;
-            this.regionFileItr.index = index + 1;
-            index = getNextIndex();
+        int count = this.prefetched.size() + this.regionChunks.length - this.nextRegionChunk;
+        final List<Path> files = this.getRegionFiles();
+        for (int i = this.nextRegionFile; i < files.size(); i++) {
+            count += countChunks(files.get(i));
         }
-        this.regionFileItr = currentItr;
-        this.openedFiles.clear();
-        this.openedFiles.addAll(currentOpenedFiles);
         return count;
     }
 
     @Override
     public void reset() {
-        this.regionFileItr = null;
-        this.openedFiles.clear();
+        for (CompletableFuture<DataContainer> future : this.prefetched) {
+            future.cancel(false);
+        }
+        this.prefetched.clear();
+        this.regionFiles = null;
+        this.nextRegionFile = 0;
+        this.regionPath = null;
+        this.region = null;
+        this.regionChunks = new int[0];
+        this.nextRegionChunk = 0;
     }
 
 }
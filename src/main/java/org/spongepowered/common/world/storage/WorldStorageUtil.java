@@ -26,6 +26,7 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.WorldServer;
@@ -47,9 +48,20 @@
 import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
 
 public class WorldStorageUtil {
 
+    /**
+     * Decompresses and translates chunks streamed from region files, kept
+     * apart from the scheduler so long scans do not starve plugin tasks.
+     */
+    static final ExecutorService REGION_READ_EXECUTOR = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder().setNameFormat("Sponge - Region Reader #%d").setDaemon(true).build());
+
     public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
         int x = chunkCoords.getX();
         int z = chunkCoords.getZ();
@@ -66,14 +78,22 @@ public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServe
         if (!(chunkLoader instanceof IMixinAnvilChunkLoader) || !SpongeChunkLayout.instance.isValidChunk(x, y, z)) {
             return CompletableFuture.completedFuture(Optional.empty());
         }
-        File worldDir = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().toFile();
+        final File worldDir = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().toFile();
+        final File regionFile = new File(new File(worldDir, "region"), "r." + (x >> 5) + "." + (z >> 5) + ".mca");
         return SpongeImpl.getScheduler().submitAsyncTask(() -> {
-            DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z);
-            return Optional.ofNullable(readDataFromRegion(stream));
+            // Don't create missing region files
+            if (!regionFile.exists()) {
+                return Optional.empty();
+            }
+            // The region file copies the chunk while holding its lock, so a chunk being saved at the same time is never read half written
+            try (DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z)) {
+                return Optional.ofNullable(readDataFromRegion(stream));
+            }
         });
     }
 
-    public static DataContainer readDataFromRegion(DataInputStream stream) throws IOException {
+    @Nullable
+    public static DataContainer readDataFromRegion(@Nullable DataInputStream stream) throws IOException {
         if (stream == null) {
             return null;
         }
@@ -102,17 +122,19 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
     // Similar to RegionFileCache#createOrLoadRegionFile except this uses direct
     // file name instead of x,z
     public static RegionFile getRegionFile(Path regionFilePath) {
-        File file = regionFilePath.toFile();
-        RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
-        if (regionFile != null) {
+        synchronized (RegionFileCache.class) {
+            File file = regionFilePath.toFile();
+            RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
+            if (regionFile != null) {
+                return regionFile;
+            }
+            if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
+                RegionFileCache.clearRegionFileReferences();
+            }
+            regionFile = new RegionFile(file);
+            RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
             return regionFile;
         }
-        if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
-            RegionFileCache.clearRegionFileReferences();
-        }
-        regionFile = new RegionFile(file);
-        RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
-        return regionFile;
     }
 
 }
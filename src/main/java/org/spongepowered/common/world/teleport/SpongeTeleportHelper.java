@@ -28,7 +28,11 @@
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.border.WorldBorder;
+import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.Location;
@@ -38,20 +42,22 @@
 import org.spongepowered.api.world.teleport.TeleportHelperFilters;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.util.PackedBlockPos;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
 
 @Singleton
 public class SpongeTeleportHelper implements TeleportHelper {
 
+    private static final byte SAFE_FLOOR = 1;
+    private static final byte SAFE_BODY = 2;
+
     @Override
     public Optional<Location<World>> getSafeLocation(Location<World> location, int height, int width, int distanceToDrop,
             TeleportHelperFilter filter, TeleportHelperFilter... additionalFilters) {
@@ -68,11 +74,7 @@ public Optional<Location<World>> getSafeLocation(Location<World> location, int h
         chunkProviderServer.setForceChunkRequests(true);
 
         try {
-            // Get the vectors to check, and get the block types with them.
-            // The vectors should be sorted by distance from the centre of the checking region, so
-            // this makes it easier to try to get close, because we can just iterate and get progressively further out.
-            Optional<Vector3i> result = getSafeLocation(world, getBlockLocations(location, height, width), distanceToDrop, filters);
-            return result.map(vector3i -> new Location<>(world, vector3i.toDouble().add(0.5, 0, 0.5)));
+            return getSafeLocation(location, height, width, distanceToDrop, filters);
         } finally {
             // Just in case some exception occurs, we want this to disable again.
             chunkProviderServer.setForceChunkRequests(false);
@@ -80,7 +82,29 @@ public Optional<Location<World>> getSafeLocation(Location<World> location, int h
 
     }
 
-    private Stream<Vector3i> getBlockLocations(Location<World> worldLocation, int height, int width) {
+    private Optional<Location<World>> getSafeLocation(Location<World> location, int height, int width, int distanceToDrop,
+            Set<TeleportHelperFilter> filters) {
+        final World world = location.getExtent();
+        // Positions are visited by distance from the centre of the checking region, so
+        // we can just iterate and get progressively further out.
+        final TeleportCandidateIterator candidates = getBlockLocations(location, height, width);
+        final BlockLookup lookup = new BlockLookup((WorldServer) world);
+        final List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+        while (candidates.hasNext()) {
+            final long pos = candidates.nextLong();
+            final int x = PackedBlockPos.unpackX(pos);
+            final int y = PackedBlockPos.unpackY(pos);
+            final int z = PackedBlockPos.unpackZ(pos);
+            final Vector3i currentTarget = new Vector3i(x, y, z);
+            if (isSafeLocation(world, currentTarget, distanceToDrop, filters, undefinedResults, lookup)) {
+                // This position should be safe. Get the center of the block to spawn into.
+                return Optional.of(new Location<>(world, currentTarget.toDouble().add(0.5, 0, 0.5)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private TeleportCandidateIterator getBlockLocations(Location<World> worldLocation, int height, int width) {
         // We don't want to warp outside of the world border, so we want to check that we're within it.
         WorldBorder worldBorder = (WorldBorder) worldLocation.getExtent().getWorldBorder();
         int worldBorderMinX = GenericMath.floor(worldBorder.minX());
@@ -104,119 +128,110 @@ private Stream<Vector3i> getBlockLocations(Location<World> worldLocation, int he
         int minZ = GenericMath.clamp(vectorLocation.getZ() - width, worldBorderMinZ, worldBorderMaxZ);
         int maxZ = GenericMath.clamp(vectorLocation.getZ() + width, worldBorderMinZ, worldBorderMaxZ);
 
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
-                }
-            }
-        }
-
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
-
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.getY() - x.getY())).thenComparing(x -> -x.getY());
-
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
+        // Positions are generated lazily by distance to the provided worldLocation, preferring
+        // changes in Y over X and Z, and higher over lower locations.
+        return new TeleportCandidateIterator(vectorLocation, minX, minY, minZ, maxX, maxY, maxZ);
     }
 
-    private Optional<Vector3i> getSafeLocation(World world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
-            Collection<TeleportHelperFilter> filters) {
-        // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
-
-        return positionsToCheck.filter(currentTarget -> {
-            List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
-            for (TeleportHelperFilter filter : filters) {
-                // If any return Tristate.FALSE, we're not safe.
-                Tristate isValid = filter.isValidLocation(world, currentTarget);
-                if (isValid == Tristate.FALSE) {
-                    // Completely fails the AND check at this point.
-                    return false;
-                }
-
-                if (isValid == Tristate.UNDEFINED) {
-                    undefinedResults.add(filter);
-                }
+    private boolean isSafeLocation(World world, Vector3i currentTarget, int floorDistanceCheck, Collection<TeleportHelperFilter> filters,
+            List<TeleportHelperFilter> undefinedResults, BlockLookup lookup) {
+        undefinedResults.clear();
+        for (TeleportHelperFilter filter : filters) {
+            // If any return Tristate.FALSE, we're not safe.
+            Tristate isValid = filter.isValidLocation(world, currentTarget);
+            if (isValid == Tristate.FALSE) {
+                // Completely fails the AND check at this point.
+                return false;
             }
 
-            // If we don't have any undefined results, then we return true here.
-            if (undefinedResults.isEmpty()) {
-                return true;
+            if (isValid == Tristate.UNDEFINED) {
+                undefinedResults.add(filter);
             }
+        }
 
-            // Get the block, add it to the cache.
-            BlockData block = getBlockData(currentTarget, world, blockCache, undefinedResults);
+        // If we don't have any undefined results, then we return true here.
+        if (undefinedResults.isEmpty()) {
+            return true;
+        }
 
-            // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
+        final int x = currentTarget.getX();
+        final int y = currentTarget.getY();
+        final int z = currentTarget.getZ();
 
-                // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
+        // If the block isn't safe, no point in continuing on this run.
+        if ((lookup.getBlockData(x, y, z, undefinedResults) & SAFE_BODY) != 0) {
 
-                    // This position should be safe. Get the center of the block to spawn into.
-                    return true;
-                }
-            }
+            // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
+            return (lookup.getBlockData(x, y + 1, z, undefinedResults) & SAFE_BODY) != 0
+                    && (floorDistanceCheck <= 0 || isFloorSafe(x, y, z, lookup, undefinedResults, floorDistanceCheck));
+        }
 
-            return false;
-        }).findFirst();
+        return false;
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
-            int floorDistanceCheck) {
+    private boolean isFloorSafe(int x, int y, int z, BlockLookup lookup, Collection<TeleportHelperFilter> filters, int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
+            final byte data = lookup.getBlockData(x, y - i, z, filters);
 
             // If it's a safe floor, we can just say yes now.
-            if (data.isSafeFloor) {
+            if ((data & SAFE_FLOOR) != 0) {
                 return true;
             }
 
             // If it's not safe for the body, then we don't want to go through it anyway.
-            if (!data.isSafeBody) {
+            if ((data & SAFE_BODY) == 0) {
                 return false;
             }
         }
 
         // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
+        return (lookup.getBlockData(x, y - floorDistanceCheck, z, filters) & SAFE_FLOOR) != 0;
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
-        if (vector3i.getY() < 0) {
-            // Anything below this isn't safe, no point going further.
-            return new BlockData();
-        }
-
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
-        }
+    /**
+     * Looks up and caches whether blocks are safe to stand on and in, reading
+     * the block states straight from the chunks.
+     */
+    private static final class BlockLookup {
 
-        BlockData data = new BlockData(world.getBlock(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
-    }
+        private final WorldServer world;
+        // We cache the various block lookup results so we don't check a block twice.
+        private final Long2ByteMap cache = new Long2ByteOpenHashMap();
+        @Nullable private Chunk chunk;
 
-    private class BlockData {
+        BlockLookup(WorldServer world) {
+            this.world = world;
+            this.cache.defaultReturnValue((byte) -1);
+        }
 
-        private final boolean isSafeFloor;
-        private final boolean isSafeBody;
+        byte getBlockData(int x, int y, int z, Collection<TeleportHelperFilter> filters) {
+            if (y < 0) {
+                // Anything below this isn't safe, no point going further.
+                return 0;
+            }
 
-        private BlockData() {
-            this.isSafeFloor = false;
-            this.isSafeBody = false;
+            final long key = PackedBlockPos.pack(x, y, z);
+            byte data = this.cache.get(key);
+            if (data == -1) {
+                data = 0;
+                final BlockState blockState = (BlockState) this.getChunk(x >> 4, z >> 4).getBlockState(x, y, z);
+                if (filters.stream().allMatch(filter -> filter.isSafeFloorMaterial(blockState))) {
+                    data |= SAFE_FLOOR;
+                }
+                if (filters.stream().allMatch(filter -> filter.isSafeBodyMaterial(blockState))) {
+                    data |= SAFE_BODY;
+                }
+                this.cache.put(key, data);
+            }
+            return data;
         }
 
-        private BlockData(BlockState blockState, Collection<TeleportHelperFilter> filters) {
-            this.isSafeFloor = filters.stream().allMatch(x -> x.isSafeFloorMaterial(blockState));
-            this.isSafeBody = filters.stream().allMatch(x -> x.isSafeBodyMaterial(blockState));
+        private Chunk getChunk(int chunkX, int chunkZ) {
+            if (this.chunk != null && this.chunk.x == chunkX && this.chunk.z == chunkZ) {
+                return this.chunk;
+            }
+            this.chunk = this.world.getChunkFromChunkCoords(chunkX, chunkZ);
+            return this.chunk;
         }
 
     }
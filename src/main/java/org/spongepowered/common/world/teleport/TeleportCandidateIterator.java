@@ -0,0 +1,163 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.AbstractLongComparator;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import org.spongepowered.common.util.PackedBlockPos;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Visits the positions of a teleport search region in the order they are
+ * checked: closest to the centre first, then preferring changes in y over x
+ * and z, then higher positions over lower ones.
+ *
+ * <p>Positions are generated by flooding outwards from the centre. Every
+ * position in the region has a neighbour that is strictly closer to the
+ * centre, so a position is always queued before it can be the next closest.
+ * Only the positions visited so far and the frontier around them are held
+ * in memory, rather than the whole region.</p>
+ */
+final class TeleportCandidateIterator {
+
+    private final int centreX;
+    private final int centreY;
+    private final int centreZ;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+    private final LongHeapPriorityQueue queue;
+    private final LongOpenHashSet queued = new LongOpenHashSet();
+
+    TeleportCandidateIterator(Vector3i centre, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.centreX = centre.getX();
+        this.centreY = centre.getY();
+        this.centreZ = centre.getZ();
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        this.queue = new LongHeapPriorityQueue(new AbstractLongComparator() {
+            @Override
+            public int compare(long first, long second) {
+                return TeleportCandidateIterator.this.compare(first, second);
+            }
+        });
+        if (minX <= maxX && minY <= maxY && minZ <= maxZ) {
+            // The centre may be outside of the region (such as beyond the world border),
+            // in which case the search starts from the closest position within it.
+            this.offer(clamp(this.centreX, minX, maxX), clamp(this.centreY, minY, maxY), clamp(this.centreZ, minZ, maxZ));
+        }
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return value < min ? min : value > max ? max : value;
+    }
+
+    boolean hasNext() {
+        return !this.queue.isEmpty();
+    }
+
+    /**
+     * Gets the next closest position, packed as with {@link PackedBlockPos#pack}.
+     *
+     * @return The packed position
+     */
+    long nextLong() {
+        if (this.queue.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        final long pos = this.queue.dequeueLong();
+        final int x = PackedBlockPos.unpackX(pos);
+        final int y = PackedBlockPos.unpackY(pos);
+        final int z = PackedBlockPos.unpackZ(pos);
+        if (x > this.minX) {
+            this.offer(x - 1, y, z);
+        }
+        if (x < this.maxX) {
+            this.offer(x + 1, y, z);
+        }
+        if (y > this.minY) {
+            this.offer(x, y - 1, z);
+        }
+        if (y < this.maxY) {
+            this.offer(x, y + 1, z);
+        }
+        if (z > this.minZ) {
+            this.offer(x, y, z - 1);
+        }
+        if (z < this.maxZ) {
+            this.offer(x, y, z + 1);
+        }
+        return pos;
+    }
+
+    private void offer(int x, int y, int z) {
+        final long pos = PackedBlockPos.pack(x, y, z);
+        if (this.queued.add(pos)) {
+            this.queue.enqueue(pos);
+        }
+    }
+
+    private long distanceSquared(long pos) {
+        final long x = PackedBlockPos.unpackX(pos) - this.centreX;
+        final long y = PackedBlockPos.unpackY(pos) - this.centreY;
+        final long z = PackedBlockPos.unpackZ(pos) - this.centreZ;
+        return x * x + y * y + z * z;
+    }
+
+    int compare(long first, long second) {
+        int result = Long.compare(distanceSquared(first), distanceSquared(second));
+        if (result != 0) {
+            return result;
+        }
+        final int firstY = PackedBlockPos.unpackY(first);
+        final int secondY = PackedBlockPos.unpackY(second);
+        // Prefer changes in y over x and z
+        result = Integer.compare(Math.abs(this.centreY - secondY), Math.abs(this.centreY - firstY));
+        if (result != 0) {
+            return result;
+        }
+        // Prefer higher over lower positions
+        result = Integer.compare(secondY, firstY);
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(PackedBlockPos.unpackX(first), PackedBlockPos.unpackX(second));
+        if (result != 0) {
+            return result;
+        }
+        return Integer.compare(PackedBlockPos.unpackZ(first), PackedBlockPos.unpackZ(second));
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.translator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Lists;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.persistence.NbtTranslator;
+import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.util.List;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class NbtDataViewTest {
+
+    private static DataContainer createContainer(DataView.SafetyMode safety) {
+        final List<DataView> enchantments = Lists.newArrayList();
+        for (int i = 0; i < 3; i++) {
+            enchantments.add(DataContainer.createNew().set(DataQuery.of("id"), (short) i).set(DataQuery.of("lvl"), (short) (i + 1)));
+        }
+        return DataContainer.createNew(safety)
+                .set(DataQuery.of("id"), "minecraft:diamond_sword")
+                .set(DataQuery.of("Count"), (byte) 1)
+                .set(DataQuery.of("Damage"), (short) 12)
+                .set(DataQuery.of("tag", "Unbreakable"), true)
+                .set(DataQuery.of("tag", "display", "Lore"), Lists.newArrayList("first", "second"))
+                .set(DataQuery.of("tag", "ench"), enchantments)
+                .set(DataQuery.of("tag", "bytes"), new byte[] {1, 2, 3})
+                .set(DataQuery.of("tag", "ints"), new int[] {4, 5, 6});
+    }
+
+    @Test
+    public void testContainerToCompound() {
+        for (DataView.SafetyMode safety : DataView.SafetyMode.values()) {
+            final NBTTagCompound compound = NbtTranslator.getInstance().translateData(createContainer(safety));
+            assertEquals("minecraft:diamond_sword", compound.getString("id"));
+            assertEquals(1, compound.getByte("Count"));
+            assertEquals(12, compound.getShort("Damage"));
+            final NBTTagCompound tag = compound.getCompoundTag("tag");
+            assertTrue(tag.getBoolean("Unbreakable" + NbtTranslator.BOOLEAN_IDENTIFER));
+            assertEquals("second", tag.getCompoundTag("display").getTagList("Lore", NbtDataUtil.TAG_STRING).getStringTagAt(1));
+            assertEquals(3, tag.getTagList("ench", NbtDataUtil.TAG_COMPOUND).getCompoundTagAt(2).getShort("lvl"));
+            assertArrayEquals(new byte[] {1, 2, 3}, tag.getByteArray("bytes"));
+            assertArrayEquals(new int[] {4, 5, 6}, tag.getIntArray("ints"));
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final NBTTagCompound compound = NbtTranslator.getInstance().translateData(createContainer(DataView.SafetyMode.ALL_DATA_CLONED));
+        final DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
+        assertEquals("minecraft:diamond_sword", container.getString(DataQuery.of("id")).get());
+        assertEquals(Boolean.TRUE, container.getBoolean(DataQuery.of("tag", "Unbreakable")).get());
+        assertEquals(Lists.newArrayList("first", "second"), container.getStringList(DataQuery.of("tag", "display", "Lore")).get());
+        final List<DataView> enchantments = container.getViewList(DataQuery.of("tag", "ench")).get();
+        assertEquals(3, enchantments.size());
+        assertEquals((short) 2, enchantments.get(1).getShort(DataQuery.of("lvl")).get().shortValue());
+        assertArrayEquals(new int[] {4, 5, 6}, (int[]) container.get(DataQuery.of("tag", "ints")).get());
+        assertEquals(compound, NbtTranslator.getInstance().translateData(container));
+    }
+
+}
@@ -0,0 +1,291 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays the recorded movement packets in {@code player_moves.txt} the way
+ * the play network handler processes them, once throwing an event per packet
+ * and once coalescing the packets of a tick.
+ */
+public class PlayerMoveCoalescerTest {
+
+    private static final double EPSILON = 1.0E-6;
+
+    private static final Map<String, Recording> recordings = new HashMap<>();
+
+    @BeforeClass
+    public static void loadRecordings() throws IOException {
+        try (InputStream in = PlayerMoveCoalescerTest.class.getResourceAsStream("player_moves.txt");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            Recording recording = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                final String[] parts = line.split("\\s+");
+                if (parts[0].equals("stream")) {
+                    recording = new Recording(Double.parseDouble(parts[2]), Double.parseDouble(parts[3]), Double.parseDouble(parts[4]),
+                            Double.parseDouble(parts[5]), Double.parseDouble(parts[6]));
+                    recordings.put(parts[1], recording);
+                } else {
+                    recording.packets.add(new Packet(Integer.parseInt(parts[0]), Boolean.parseBoolean(parts[1]), Boolean.parseBoolean(parts[2]),
+                            Double.parseDouble(parts[3]), Double.parseDouble(parts[4]), Double.parseDouble(parts[5]),
+                            Double.parseDouble(parts[6]), Double.parseDouble(parts[7])));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWalk() {
+        final Recording recording = recordings.get("walk");
+        final List<double[]> events = replayCoalesced(recording);
+
+        assertEquals(8, events.size());
+        for (int i = 1; i < events.size(); i++) {
+            // Every event starts where the previous one ended
+            assertArrayEquals(to(events.get(i - 1)), from(events.get(i)), EPSILON);
+        }
+        assertArrayEquals(new double[] {100.5, 64.0, -20.5, 0.0, 90.0}, from(events.get(0)), EPSILON);
+        assertArrayEquals(new double[] {102.1, 64.0, -20.0, 3.0, 93.0}, to(events.get(7)), EPSILON);
+        assertEquals(replayImmediate(recording).size(), events.size());
+    }
+
+    @Test
+    public void testBurst() {
+        final Recording recording = recordings.get("burst");
+        final List<double[]> events = replayCoalesced(recording);
+
+        // The last tick only moved a tiny bit, which is below the threshold
+        assertEquals(2, events.size());
+        assertArrayEquals(new double[] {0.6, 70.0, 0.5, 10.0, 180.0}, from(events.get(1)), EPSILON);
+        // The last packet of the burst only moved, so the rotation of the packet before it is kept
+        assertArrayEquals(new double[] {1.6, 70.0, 0.8, 14.0, 184.0}, to(events.get(1)), EPSILON);
+        assertEquals(6, replayImmediate(recording).size());
+    }
+
+    @Test
+    public void testJitter() {
+        final Recording recording = recordings.get("jitter");
+
+        assertTrue(replayCoalesced(recording).isEmpty());
+        assertTrue(replayImmediate(recording).isEmpty());
+    }
+
+    @Test
+    public void testRotationOnly() {
+        final Recording recording = recordings.get("look");
+        final List<double[]> events = replayCoalesced(recording);
+
+        assertEquals(2, events.size());
+        for (double[] event : events) {
+            // Rotation only packets don't carry a position, the player position has to be used
+            assertArrayEquals(new double[] {8.5, 80.0, 8.5}, new double[] {event[0], event[1], event[2]}, EPSILON);
+            assertArrayEquals(new double[] {8.5, 80.0, 8.5}, new double[] {event[5], event[6], event[7]}, EPSILON);
+        }
+        assertArrayEquals(new double[] {8.5, 80.0, 8.5, 15.0, 90.0}, to(events.get(1)), EPSILON);
+    }
+
+    @Test
+    public void testKeepsFirstFrom() {
+        final PlayerMoveCoalescer coalescer = new PlayerMoveCoalescer();
+        assertFalse(coalescer.hasPending());
+
+        coalescer.add(0, 0, 0, 0, 0, 0.01, 0, 0, 0, 0);
+        assertTrue(coalescer.hasPending());
+        assertFalse(coalescer.isPendingSignificant());
+
+        coalescer.add(0.01, 0, 0, 0, 0, 1, 2, 3, 4, 5);
+        assertTrue(coalescer.isPendingSignificant());
+        assertEquals(0, coalescer.getFromX(), EPSILON);
+        assertEquals(1, coalescer.getToX(), EPSILON);
+        assertEquals(5, coalescer.getToYaw(), EPSILON);
+
+        coalescer.reset();
+        assertFalse(coalescer.hasPending());
+        assertFalse(coalescer.isPendingSignificant());
+    }
+
+    private static List<double[]> replayImmediate(Recording recording) {
+        final SimulatedPlayer player = new SimulatedPlayer(recording);
+        final PlayerMovement movement = new PlayerMovement();
+        final List<double[]> events = new ArrayList<>();
+        double[] lastMove = null;
+        for (Packet packet : recording.packets) {
+            player.resolve(movement, packet, lastMove);
+            if (movement.isSignificant()) {
+                final double[] move = toArray(movement);
+                events.add(move);
+                lastMove = to(move);
+            }
+            player.apply(packet);
+        }
+        return events;
+    }
+
+    private static List<double[]> replayCoalesced(Recording recording) {
+        final SimulatedPlayer player = new SimulatedPlayer(recording);
+        final PlayerMovement movement = new PlayerMovement();
+        final PlayerMoveCoalescer coalescer = new PlayerMoveCoalescer();
+        final List<double[]> events = new ArrayList<>();
+        double[] lastMove = null;
+        int tick = -1;
+        for (Packet packet : recording.packets) {
+            if (packet.tick != tick) {
+                lastMove = flush(coalescer, events, lastMove);
+                tick = packet.tick;
+            }
+            // The movement is applied right away, the position the coalesced movement started from is used for the event
+            player.resolve(movement, packet, lastMove);
+            coalescer.add(movement);
+            player.apply(packet);
+        }
+        flush(coalescer, events, lastMove);
+        return events;
+    }
+
+    private static double[] flush(PlayerMoveCoalescer coalescer, List<double[]> events, double[] lastMove) {
+        final boolean significant = coalescer.isPendingSignificant();
+        coalescer.reset();
+        if (!significant) {
+            return lastMove;
+        }
+        final double[] move = new double[] {coalescer.getFromX(), coalescer.getFromY(), coalescer.getFromZ(), coalescer.getFromPitch(),
+                coalescer.getFromYaw(), coalescer.getToX(), coalescer.getToY(), coalescer.getToZ(), coalescer.getToPitch(),
+                coalescer.getToYaw()};
+        events.add(move);
+        // Like the server, the end of the thrown event is where the next movement is measured from
+        return to(move);
+    }
+
+    private static double[] toArray(PlayerMovement movement) {
+        return new double[] {movement.getFromX(), movement.getFromY(), movement.getFromZ(), movement.getFromPitch(), movement.getFromYaw(),
+                movement.getToX(), movement.getToY(), movement.getToZ(), movement.getToPitch(), movement.getToYaw()};
+    }
+
+    private static double[] from(double[] move) {
+        return new double[] {move[0], move[1], move[2], move[3], move[4]};
+    }
+
+    private static double[] to(double[] move) {
+        return new double[] {move[5], move[6], move[7], move[8], move[9]};
+    }
+
+    private static final class SimulatedPlayer {
+
+        private double x;
+        private double y;
+        private double z;
+        private double pitch;
+        private double yaw;
+
+        SimulatedPlayer(Recording recording) {
+            this.x = recording.x;
+            this.y = recording.y;
+            this.z = recording.z;
+            this.pitch = recording.pitch;
+            this.yaw = recording.yaw;
+        }
+
+        void resolve(PlayerMovement movement, Packet packet, double[] lastMove) {
+            movement.resolve(packet.moving, packet.rotating, packet.x, packet.y, packet.z, packet.pitch, packet.yaw,
+                    lastMove == null ? null : new Vector3d(lastMove[0], lastMove[1], lastMove[2]), this.x, this.y, this.z, this.pitch, this.yaw);
+        }
+
+        void apply(Packet packet) {
+            if (packet.moving) {
+                this.x = packet.x;
+                this.y = packet.y;
+                this.z = packet.z;
+            }
+            if (packet.rotating) {
+                this.pitch = packet.pitch;
+                this.yaw = packet.yaw;
+            }
+        }
+    }
+
+    private static final class Recording {
+
+        final double x;
+        final double y;
+        final double z;
+        final double pitch;
+        final double yaw;
+        final List<Packet> packets = new ArrayList<>();
+
+        Recording(double x, double y, double z, double pitch, double yaw) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.pitch = pitch;
+            this.yaw = yaw;
+        }
+    }
+
+    private static final class Packet {
+
+        final int tick;
+        final boolean moving;
+        final boolean rotating;
+        final double x;
+        final double y;
+        final double z;
+        final double pitch;
+        final double yaw;
+
+        Packet(int tick, boolean moving, boolean rotating, double x, double y, double z, double pitch, double yaw) {
+            this.tick = tick;
+            this.moving = moving;
+            this.rotating = rotating;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.pitch = pitch;
+            this.yaw = yaw;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.registry.CatalogRegistryModule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class CatalogTypeIndexTest {
+
+    private final List<TestCatalogType> catalogTypes = new ArrayList<>();
+    private final CatalogTypeIndex index = new CatalogTypeIndex();
+
+    @Before
+    public void init() {
+        for (int i = 0; i < 1000; i++) {
+            this.catalogTypes.add(new TestCatalogType("test:type_" + i));
+        }
+        this.catalogTypes.add(new TestCatalogType("test:Mixed_Case"));
+        this.catalogTypes.add(new TestCatalogType("test:duplicate"));
+        this.catalogTypes.add(new TestCatalogType("test:duplicate"));
+        this.catalogTypes.add(new TestCatalogType("test:caf\u00e9"));
+
+        final Map<Class<? extends CatalogType>, CatalogRegistryModule<?>> modules = new IdentityHashMap<>();
+        modules.put(TestCatalogType.class, new TestRegistryModule(this.catalogTypes));
+        this.index.rebuild(modules);
+    }
+
+    @Test
+    public void testLookup() {
+        for (int i = 0; i < 1000; i++) {
+            final Optional<TestCatalogType> catalogType = this.index.get(TestCatalogType.class, "test:type_" + i);
+            assertSame(this.catalogTypes.get(i), catalogType.get());
+        }
+        // The same cached optional is returned for every lookup
+        assertSame(this.index.get(TestCatalogType.class, "test:type_1"), this.index.get(TestCatalogType.class, "test:type_1"));
+    }
+
+    @Test
+    public void testIgnoresCase() {
+        assertSame(this.catalogTypes.get(1000), this.index.get(TestCatalogType.class, "test:mixed_case").get());
+        assertSame(this.catalogTypes.get(1000), this.index.get(TestCatalogType.class, "TEST:MIXED_CASE").get());
+        assertSame(this.catalogTypes.get(5), this.index.get(TestCatalogType.class, "Test:Type_5").get());
+    }
+
+    @Test
+    public void testNotIndexed() {
+        assertNull(this.index.get(TestCatalogType.class, "test:type_1000"));
+        assertNull(this.index.get(TestCatalogType.class, "type_1"));
+        assertNull(this.index.get(CatalogType.class, "test:type_1"));
+        // Ambiguous and non ASCII ids are left to the registry module
+        assertNull(this.index.get(TestCatalogType.class, "test:duplicate"));
+        assertNull(this.index.get(TestCatalogType.class, "test:caf\u00e9"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        this.index.invalidate(TestCatalogType.class);
+        assertNull(this.index.get(TestCatalogType.class, "test:type_1"));
+    }
+
+    private static final class TestCatalogType implements CatalogType {
+
+        private final String id;
+
+        TestCatalogType(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public String getName() {
+            return this.id;
+        }
+    }
+
+    private static final class TestRegistryModule implements CatalogRegistryModule<TestCatalogType> {
+
+        private final List<TestCatalogType> catalogTypes;
+
+        TestRegistryModule(List<TestCatalogType> catalogTypes) {
+            this.catalogTypes = catalogTypes;
+        }
+
+        @Override
+        public Optional<TestCatalogType> getById(String id) {
+            return this.catalogTypes.stream().filter(type -> type.getId().equalsIgnoreCase(id)).findFirst();
+        }
+
+        @Override
+        public Collection<TestCatalogType> getAll() {
+            return this.catalogTypes;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class AtomicSectionedBitSetTest {
+
+    @Test
+    public void testSetAndClear() {
+        AtomicSectionedBitSet set = new AtomicSectionedBitSet(1 << 16);
+        assertTrue(set.testAndSet(0));
+        assertTrue(set.testAndSet(65535));
+        assertFalse(set.testAndSet(65535));
+        assertTrue(set.get(0));
+        assertTrue(set.get(65535));
+        assertFalse(set.get(64));
+        assertEquals(2, set.cardinality());
+
+        assertTrue(set.clear(65535));
+        assertFalse(set.clear(65535));
+        assertFalse(set.get(65535));
+        assertEquals(1, set.cardinality());
+    }
+
+    @Test
+    public void testClearOfUnallocatedSection() {
+        AtomicSectionedBitSet set = new AtomicSectionedBitSet(1 << 16);
+        assertFalse(set.clear(AtomicSectionedBitSet.SECTION_BITS * 3 + 5));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        new AtomicSectionedBitSet(1 << 16).testAndSet(1 << 16);
+    }
+}